@@ -0,0 +1,118 @@
+package com.volunteerhub.backend.cache;
+
+import com.volunteerhub.backend.domain.EventLifecycleChanged;
+import com.volunteerhub.backend.domain.EventModerated;
+import com.volunteerhub.backend.dto.EventResponse;
+import com.volunteerhub.backend.entity.EventEntity;
+import com.volunteerhub.backend.util.TtlCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Function;
+
+// Read-through cache of EventResponse by id for the event detail page.
+// Writers record the committed @Version as a floor: a reader that loaded the row before the
+// write and tries to cache it afterwards is refused, so a stale version is never served.
+@Component
+public class EventCache {
+
+    private final TtlCache<Long, EventResponse> cache;
+    // id -> lowest version allowed into the cache; lives as long as any entry could
+    private final TtlCache<Long, Long> minVersion;
+    // slug -> id for /by-slug; a rename evicts locally, other nodes re-resolve when the slug no longer matches
+    private final TtlCache<String, Long> slugs;
+
+    public EventCache(@Value("${cache.events.maxSize:5000}") int maxSize,
+                      @Value("${cache.events.ttlMs:60000}") long ttlMs,
+                      @Value("${cache.events.slugTtlMs:600000}") long slugTtlMs,
+                      MeterRegistry registry) {
+        this.cache = new TtlCache<>(maxSize, ttlMs);
+        this.minVersion = new TtlCache<>(maxSize, ttlMs);
+        this.slugs = new TtlCache<>(maxSize * 2, slugTtlMs);
+
+        FunctionCounter.builder("cache.events.requests", cache, TtlCache::hitCount)
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("cache.events.requests", cache, TtlCache::missCount)
+                .tag("result", "miss").register(registry);
+        FunctionCounter.builder("cache.events.evictions", cache, TtlCache::evictionCount)
+                .register(registry);
+        Gauge.builder("cache.events.size", cache, TtlCache::size).register(registry);
+    }
+
+    public EventResponse get(Long id, Function<Long, EventResponse> loader) {
+        EventResponse cached = cache.get(id);
+        if (cached != null) return cached;
+        EventResponse loaded = loader.apply(id);
+        if (loaded != null) putIfCurrent(loaded);
+        return loaded;
+    }
+
+    public Long idForSlug(String slug, Function<String, Long> loader) {
+        return slugs.get(slug, loader);
+    }
+
+    public void evictSlug(String slug) {
+        if (slug != null) slugs.invalidate(slug);
+    }
+
+    // drop the entry now and again once the new version is committed (reads in between see the DB)
+    public void evictAfterCommit(EventEntity e) {
+        Long id = e.getId();
+        cache.invalidate(id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(id, e.getVersion());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // version is read here: the flush has incremented it by now
+                evict(id, e.getVersion());
+            }
+        });
+    }
+
+    // set-based status changes (lifecycle job) bypass the entity, so they arrive as domain events
+    @TransactionalEventListener
+    public void onLifecycleChanged(EventLifecycleChanged event) {
+        evict(event.eventId(), event.version());
+    }
+
+    @TransactionalEventListener
+    public void onModerated(EventModerated event) {
+        evict(event.eventId(), event.version());
+    }
+
+    // for set-based updates that bypass the entity: caller passes the version it just wrote
+    public void evictAfterCommit(Long id, Long version) {
+        cache.invalidate(id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(id, version);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(id, version);
+            }
+        });
+    }
+
+    // synchronized with putIfCurrent: floor + invalidate are atomic to a concurrent put
+    private synchronized void evict(Long id, Long version) {
+        if (version != null) minVersion.put(id, version);
+        cache.invalidate(id);
+    }
+
+    private synchronized void putIfCurrent(EventResponse resp) {
+        Long floor = minVersion.get(resp.getId());
+        if (floor != null && (resp.getVersion() == null || resp.getVersion() < floor)) return;
+        cache.put(resp.getId(), resp);
+    }
+}
@@ -0,0 +1,10 @@
+package com.volunteerhub.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// @Async listeners run on Boot's applicationTaskExecutor (spring.task.execution.*)
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,11 @@
+package com.volunteerhub.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled jobs run on Boot's taskScheduler (spring.task.scheduling.*); the pool has a thread per job
+// (6 today) plus headroom, so a long index load or a paced purge cannot hold up the 500 ms check-in flush
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
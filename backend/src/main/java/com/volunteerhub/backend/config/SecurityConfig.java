@@ -2,18 +2,27 @@ package com.volunteerhub.backend.config;
 
 import com.volunteerhub.backend.security.CustomUserDetailsService;
 import com.volunteerhub.backend.security.JwtAuthenticationFilter;
+import com.volunteerhub.backend.security.JwtProperties;
 import com.volunteerhub.backend.security.JwtProvider;
+import com.volunteerhub.backend.security.PasswordProperties;
+import com.volunteerhub.backend.security.UserStateCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableMethodSecurity
@@ -21,33 +30,63 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
     private final JwtProvider jwtProvider;
+    private final UserStateCache userStateCache;
+    private final JwtProperties jwtProperties;
+    private final PasswordProperties passwordProperties;
 
-    public SecurityConfig(CustomUserDetailsService uds, JwtProvider jwtProvider) {
+    public SecurityConfig(CustomUserDetailsService uds,
+                          JwtProvider jwtProvider,
+                          UserStateCache userStateCache,
+                          JwtProperties jwtProperties,
+                          PasswordProperties passwordProperties) {
         this.userDetailsService = uds;
         this.jwtProvider = jwtProvider;
+        this.userStateCache = userStateCache;
+        this.jwtProperties = jwtProperties;
+        this.passwordProperties = passwordProperties;
     }
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
-        var jwtFilter = new JwtAuthenticationFilter(jwtProvider, userDetailsService);
+        var jwtFilter = new JwtAuthenticationFilter(jwtProvider, userDetailsService, userStateCache,
+                jwtProperties.isStatelessPrincipal());
 
         http
                 .csrf(csrf -> csrf.disable())
+                // the only password check is POST /api/auth/login, behind AuthRateLimiter: no Basic or form
+                // login filter may accept credentials outside it
+                .httpBasic(basic -> basic.disable())
+                .formLogin(form -> form.disable())
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/actuator/**").permitAll()
+                        .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                        // metrics expose JVM, datasource and auth counters
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/**").permitAll()
                         .anyRequest().authenticated()
                 )
-                .httpBasic(Customizer.withDefaults())
+                // JWT only, no Basic challenge: unauthenticated API calls get a bare 401
+                .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .addFilterBefore(jwtFilter, org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
+    // New hashes are "{id}..." for the configured algorithm. Legacy unprefixed BCrypt hashes still
+    // match; upgradeEncoding() flags them (and lower BCrypt costs) so DaoAuthenticationProvider
+    // rehashes through CustomUserDetailsService.updatePassword on the next successful login.
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(passwordProperties.getBcryptStrength()));
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        String idForEncode = passwordProperties.getAlgorithm().toLowerCase();
+        if (!encoders.containsKey(idForEncode)) {
+            throw new IllegalStateException("Unsupported security.password.algorithm: " + idForEncode);
+        }
+        var delegating = new DelegatingPasswordEncoder(idForEncode, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return delegating;
     }
 
     @Bean
@@ -0,0 +1,55 @@
+package com.volunteerhub.backend.controller;
+
+import com.volunteerhub.backend.dto.BulkModerationRequest;
+import com.volunteerhub.backend.service.IEventModerationService;
+import jakarta.validation.Valid;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/events")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminEventController {
+
+    private final IEventModerationService svc;
+
+    public AdminEventController(IEventModerationService svc) {
+        this.svc = svc;
+    }
+
+    // moderation queue: pending events, oldest first
+    @GetMapping("/pending")
+    public ResponseEntity<?> pending(@RequestParam(defaultValue = "0") int page,
+                                     @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(svc.pendingQueue(PageRequest.of(page, size)));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
+        }
+    }
+
+    @PostMapping("/approve")
+    public ResponseEntity<?> approve(@Valid @RequestBody BulkModerationRequest req, Authentication auth) {
+        try {
+            return ResponseEntity.ok(svc.approve(req.getIds(), auth));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body(java.util.Map.of("error", "Unable to approve events"));
+        }
+    }
+
+    @PostMapping("/reject")
+    public ResponseEntity<?> reject(@Valid @RequestBody BulkModerationRequest req, Authentication auth) {
+        try {
+            return ResponseEntity.ok(svc.reject(req.getIds(), req.getReason(), auth));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body(java.util.Map.of("error", "Unable to reject events"));
+        }
+    }
+}
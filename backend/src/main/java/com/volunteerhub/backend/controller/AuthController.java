@@ -7,8 +7,13 @@ import com.volunteerhub.backend.dto.RegisterRequest;
 import com.volunteerhub.backend.dto.RefreshRequest;
 import com.volunteerhub.backend.dto.LogoutRequest;
 import com.volunteerhub.backend.entity.UserEntity;
+import com.volunteerhub.backend.exception.RateLimitExceededException;
+import com.volunteerhub.backend.exception.ServiceBusyException;
+import com.volunteerhub.backend.security.AuthRateLimiter;
 import com.volunteerhub.backend.security.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -19,14 +24,17 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final IAuthService authService;
+    private final AuthRateLimiter rateLimiter;
 
-    public AuthController(IAuthService svc) {
+    public AuthController(IAuthService svc, AuthRateLimiter rateLimiter) {
         this.authService = svc;
+        this.rateLimiter = rateLimiter;
     }
 
     @PostMapping("/register")
-    public ResponseEntity<?> register(@Valid @RequestBody RegisterRequest req) {
+    public ResponseEntity<?> register(@Valid @RequestBody RegisterRequest req, HttpServletRequest request) {
         try {
+            rateLimiter.checkRegister(request, req.getEmail());
             UserEntity created = authService.register(req);
             return ResponseEntity.status(HttpStatus.CREATED).body(
                     java.util.Map.of(
@@ -38,6 +46,10 @@ public class AuthController {
         } catch (IllegalArgumentException ex) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(java.util.Map.of("error", ex.getMessage()));
+        } catch (RateLimitExceededException ex) {
+            return tooManyRequests(ex);
+        } catch (ServiceBusyException ex) {
+            return busy(ex);
         } catch (Exception ex) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(java.util.Map.of("error", "Unable to register user"));
@@ -45,10 +57,15 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest req) {
+    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest req, HttpServletRequest request) {
         try {
+            rateLimiter.checkLogin(request, req.getEmail());
             AuthResponse resp = authService.login(req);
             return ResponseEntity.ok(resp);
+        } catch (RateLimitExceededException ex) {
+            return tooManyRequests(ex);
+        } catch (ServiceBusyException ex) {
+            return busy(ex);
         } catch (Exception ex) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(java.util.Map.of("error", "Invalid credentials"));
@@ -56,10 +73,13 @@ public class AuthController {
     }
 
     @PostMapping("/refresh")
-    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshRequest req) {
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshRequest req, HttpServletRequest request) {
         try {
+            rateLimiter.checkRefresh(request);
             AuthResponse resp = authService.refresh(req.getRefreshToken());
             return ResponseEntity.ok(resp);
+        } catch (RateLimitExceededException ex) {
+            return tooManyRequests(ex);
         } catch (IllegalArgumentException ex) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(java.util.Map.of("error", ex.getMessage()));
         } catch (Exception ex) {
@@ -83,7 +103,8 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(java.util.Map.of("error", "Not authenticated"));
         }
         CustomUserDetails cud = (CustomUserDetails) authentication.getPrincipal();
-        var u = cud.getUserEntity();
+        // principal may be built from token claims only -> load the profile for fullName
+        var u = authService.getProfile(cud.getUserEntity().getId());
         return ResponseEntity.ok(java.util.Map.of(
                 "id", u.getId(),
                 "email", u.getEmail(),
@@ -91,4 +112,16 @@ public class AuthController {
                 "role", u.getRole().name()
         ));
     }
+
+    private ResponseEntity<?> tooManyRequests(RateLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(java.util.Map.of("error", ex.getMessage()));
+    }
+
+    private ResponseEntity<?> busy(ServiceBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(java.util.Map.of("error", ex.getMessage()));
+    }
 }
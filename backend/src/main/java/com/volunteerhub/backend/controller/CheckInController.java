@@ -0,0 +1,57 @@
+package com.volunteerhub.backend.controller;
+
+import com.volunteerhub.backend.dto.CheckInRequest;
+import com.volunteerhub.backend.dto.CheckInResponse;
+import com.volunteerhub.backend.dto.CheckInTokenResponse;
+import com.volunteerhub.backend.exception.ServiceBusyException;
+import com.volunteerhub.backend.service.ICheckInService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/events/{eventId}")
+public class CheckInController {
+
+    private final ICheckInService svc;
+
+    public CheckInController(ICheckInService svc) {
+        this.svc = svc;
+    }
+
+    // Volunteer: signed token for the QR code of an approved registration
+    @PreAuthorize("hasRole('VOLUNTEER')")
+    @GetMapping("/registrations/{registrationId}/check-in-token")
+    public ResponseEntity<?> token(@PathVariable Long eventId, @PathVariable Long registrationId, Authentication auth) {
+        try {
+            CheckInTokenResponse resp = svc.issueToken(eventId, registrationId, auth);
+            return ResponseEntity.ok(resp);
+        } catch (SecurityException ex) {
+            return ResponseEntity.status(403).body(java.util.Map.of("error", ex.getMessage()));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body(java.util.Map.of("error", "Unable to issue check-in token"));
+        }
+    }
+
+    // Organizer/Admin: scan at the door; repeat scans answer already_checked_in
+    @PreAuthorize("hasAnyRole('ORGANIZER','ADMIN')")
+    @PostMapping("/check-in")
+    public ResponseEntity<?> checkIn(@PathVariable Long eventId, @Valid @RequestBody CheckInRequest req, Authentication auth) {
+        try {
+            CheckInResponse resp = svc.checkIn(eventId, req.getToken(), auth);
+            return ResponseEntity.ok(resp);
+        } catch (ServiceBusyException ex) {
+            throw ex; // 503 + Retry-After via RestExceptionHandler
+        } catch (SecurityException ex) {
+            return ResponseEntity.status(403).body(java.util.Map.of("error", ex.getMessage()));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body(java.util.Map.of("error", "Unable to check in"));
+        }
+    }
+}
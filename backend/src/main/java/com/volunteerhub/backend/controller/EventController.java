@@ -2,14 +2,20 @@ package com.volunteerhub.backend.controller;
 
 import com.volunteerhub.backend.dto.EventCreateRequest;
 import com.volunteerhub.backend.dto.EventResponse;
+import com.volunteerhub.backend.dto.EventSearchFilter;
+import com.volunteerhub.backend.service.IEventImportService;
 import com.volunteerhub.backend.service.IEventService;
+import com.volunteerhub.backend.util.ETags;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Optional;
 
@@ -18,9 +24,11 @@ import java.util.Optional;
 public class EventController {
 
     private final IEventService svc;
+    private final IEventImportService importService;
 
-    public EventController(IEventService svc) {
+    public EventController(IEventService svc, IEventImportService importService) {
         this.svc = svc;
+        this.importService = importService;
     }
 
     @PreAuthorize("hasAnyRole('ORGANIZER','ADMIN')")
@@ -36,19 +44,104 @@ public class EventController {
         }
     }
 
+    // multipart "file": CSV with a header of EventCreateRequest property names, or a JSON array
+    @PreAuthorize("hasAnyRole('ORGANIZER','ADMIN')")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importEvents(@RequestParam("file") MultipartFile file, Authentication auth) {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", "File is empty"));
+        }
+        try (var in = file.getInputStream()) {
+            return ResponseEntity.ok(importService.importEvents(in, file.getOriginalFilename(), file.getContentType(), auth));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
+        } catch (java.io.IOException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", "Unreadable file: " + ex.getMessage()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body(java.util.Map.of("error", "Unable to import events"));
+        }
+    }
+
+    // ?cursor= (empty for the first page) switches to keyset mode: {items, nextCursor, hasNext}, no total
     @GetMapping
     public ResponseEntity<?> listEvents(
             @RequestParam Optional<String> status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest request) {
+        if (cursor != null) {
+            try {
+                var slice = svc.listEventsByCursor(status, cursor, size);
+                // keyset slices are cheap to load; the ETag only saves serialization and transfer
+                StringBuilder fp = new StringBuilder("events-cursor|").append(slice.getNextCursor());
+                for (EventResponse e : slice.getItems()) fp.append('|').append(e.getId()).append(':').append(e.getVersion());
+                if (request.checkNotModified(ETags.strong(fp.toString()))) return null;
+                return ResponseEntity.ok(slice);
+            } catch (IllegalArgumentException ex) {
+                return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
+            }
+        }
         Page<EventResponse> p = svc.listEvents(status, PageRequest.of(page, size));
+        // fingerprint of the loaded page: the ETag only saves serialization and transfer, no extra queries
+        StringBuilder fp = new StringBuilder("events|").append(p.getTotalElements());
+        for (EventResponse e : p.getContent()) fp.append('|').append(e.getId()).append(':').append(e.getVersion());
+        if (request.checkNotModified(ETags.strong(fp.toString()))) return null;
         return ResponseEntity.ok(p);
     }
 
+    // ?category=&from=&to=&location=&hasCapacity=&organizerId=&status= -> page of EventSummaryResponse
+    // ?q= keywords (name/description, accent-insensitive) -> ranked by relevance; only status applies
+    @GetMapping("/search")
+    public ResponseEntity<?> searchEvents(
+            @ModelAttribute EventSearchFilter filter,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            if (q != null && !q.isBlank()) {
+                var status = Optional.ofNullable(filter.getStatus()).map(Enum::name);
+                return ResponseEntity.ok(svc.searchEventsByText(q, status, PageRequest.of(page, size)));
+            }
+            return ResponseEntity.ok(svc.searchEvents(filter, PageRequest.of(page, size)));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<?> getEvent(@PathVariable Long id) {
+    public ResponseEntity<?> getEvent(@PathVariable Long id, WebRequest request) {
         try {
+            // served from EventCache; ETag = committed @Version
             EventResponse resp = svc.getEvent(id);
+            if (request.checkNotModified(ETags.strong("event|" + id + "|" + resp.getVersion()))) return null;
+            return ResponseEntity.ok(resp);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(404).body(java.util.Map.of("error", ex.getMessage()));
+        }
+    }
+
+    // ?lat=&lon=&radiusKm= ordered by distance; status/from/to filters apply
+    @GetMapping("/nearby")
+    public ResponseEntity<?> nearbyEvents(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @ModelAttribute EventSearchFilter filter,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(svc.nearbyEvents(lat, lon, radiusKm, filter, PageRequest.of(page, size)));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
+        }
+    }
+
+    @GetMapping("/by-slug/{slug}")
+    public ResponseEntity<?> getEventBySlug(@PathVariable String slug, WebRequest request) {
+        try {
+            EventResponse resp = svc.getEventBySlug(slug);
+            if (request.checkNotModified(ETags.strong("event|" + resp.getId() + "|" + resp.getVersion()))) return null;
             return ResponseEntity.ok(resp);
         } catch (IllegalArgumentException ex) {
             return ResponseEntity.status(404).body(java.util.Map.of("error", ex.getMessage()));
@@ -82,4 +175,19 @@ public class EventController {
             return ResponseEntity.status(500).body(java.util.Map.of("error", "Unable to approve event"));
         }
     }
+
+    @PreAuthorize("hasAnyRole('ORGANIZER','ADMIN')")
+    @PutMapping("/{id}/high-demand")
+    public ResponseEntity<?> setHighDemand(@PathVariable Long id, @RequestParam boolean enabled, Authentication auth) {
+        try {
+            EventResponse resp = svc.setHighDemand(id, enabled, auth);
+            return ResponseEntity.ok(resp);
+        } catch (SecurityException ex) {
+            return ResponseEntity.status(403).body(java.util.Map.of("error", ex.getMessage()));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(404).body(java.util.Map.of("error", ex.getMessage()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body(java.util.Map.of("error", "Unable to update event"));
+        }
+    }
 }
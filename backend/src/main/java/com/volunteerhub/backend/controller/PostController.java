@@ -8,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -39,8 +40,11 @@ public class PostController {
     @GetMapping("/events/{eventId}/posts")
     public ResponseEntity<?> listPosts(@PathVariable Long eventId,
                                        @RequestParam(defaultValue = "0") int page,
-                                       @RequestParam(defaultValue = "10") int size) {
-        var p = svc.listPosts(eventId, PageRequest.of(page, size));
+                                       @RequestParam(defaultValue = "10") int size,
+                                       WebRequest request) {
+        PageRequest pageable = PageRequest.of(page, size);
+        if (request.checkNotModified(svc.listPostsETag(eventId, pageable))) return null;
+        var p = svc.listPosts(eventId, pageable);
         return ResponseEntity.ok(p);
     }
 
@@ -60,8 +64,9 @@ public class PostController {
     }
 
     @GetMapping("/posts/{postId}/comments")
-    public ResponseEntity<?> listComments(@PathVariable Long postId) {
+    public ResponseEntity<?> listComments(@PathVariable Long postId, WebRequest request) {
         try {
+            if (request.checkNotModified(svc.listCommentsETag(postId))) return null;
             List<CommentResponse> list = svc.listComments(postId);
             return ResponseEntity.ok(list);
         } catch (IllegalArgumentException ex) {
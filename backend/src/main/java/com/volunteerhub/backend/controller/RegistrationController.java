@@ -1,24 +1,41 @@
 package com.volunteerhub.backend.controller;
 
+import com.volunteerhub.backend.dto.BulkCompletionRequest;
+import com.volunteerhub.backend.dto.BulkRegistrationRequest;
+import com.volunteerhub.backend.dto.ParticipationFilter;
 import com.volunteerhub.backend.dto.RegistrationCreateRequest;
 import com.volunteerhub.backend.dto.RegistrationResponse;
+import com.volunteerhub.backend.dto.RegistrationTicket;
+import com.volunteerhub.backend.exception.NotFoundException;
+import com.volunteerhub.backend.exception.ServiceBusyException;
+import com.volunteerhub.backend.service.IRegistrationAdmissionService;
+import com.volunteerhub.backend.service.IRegistrationBulkService;
 import com.volunteerhub.backend.service.IRegistrationService;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api")
 public class RegistrationController {
 
     private final IRegistrationService svc;
+    private final IRegistrationAdmissionService admission;
+    private final IRegistrationBulkService bulk;
 
-    public RegistrationController(IRegistrationService svc) {
+    public RegistrationController(IRegistrationService svc,
+                                  IRegistrationAdmissionService admission,
+                                  IRegistrationBulkService bulk) {
         this.svc = svc;
+        this.admission = admission;
+        this.bulk = bulk;
     }
 
     // Volunteer registers for an event
@@ -26,8 +43,13 @@ public class RegistrationController {
     @PostMapping("/events/{eventId}/register")
     public ResponseEntity<?> register(@PathVariable Long eventId, @Valid @RequestBody RegistrationCreateRequest req, Authentication auth) {
         try {
+            // high-demand events: queued, 202 + ticket to poll
+            Optional<RegistrationTicket> ticket = admission.tryAdmit(eventId, req, auth);
+            if (ticket.isPresent()) return ResponseEntity.accepted().body(ticket.get());
             RegistrationResponse resp = svc.register(eventId, req, auth);
             return ResponseEntity.status(201).body(resp);
+        } catch (ServiceBusyException ex) {
+            throw ex; // 503 + Retry-After via RestExceptionHandler
         } catch (IllegalArgumentException ex) {
             return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
         } catch (Exception ex) {
@@ -35,6 +57,18 @@ public class RegistrationController {
         }
     }
 
+    // Volunteer polls the outcome of a queued (high-demand) registration. Polls should reach the node that
+    // queued it (sticky routing); elsewhere only a stored registration is found, 404 -> register again
+    @PreAuthorize("hasRole('VOLUNTEER')")
+    @GetMapping("/registrations/tickets/{ticketId}")
+    public ResponseEntity<?> ticket(@PathVariable String ticketId, Authentication auth) {
+        try {
+            return ResponseEntity.ok(admission.getTicket(ticketId, auth));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(404).body(java.util.Map.of("error", ex.getMessage()));
+        }
+    }
+
     // Volunteer cancels registration
     @PreAuthorize("hasRole('VOLUNTEER')")
     @PostMapping("/events/{eventId}/registrations/{registrationId}/cancel")
@@ -65,6 +99,40 @@ public class RegistrationController {
         }
     }
 
+    // Organizer/Admin: roster page (?status=&cursor=&size=), flat rows + counts per status
+    @PreAuthorize("hasAnyRole('ORGANIZER','ADMIN')")
+    @GetMapping("/events/{eventId}/registrations/roster")
+    public ResponseEntity<?> roster(@PathVariable Long eventId,
+                                    @RequestParam Optional<String> status,
+                                    @RequestParam(required = false) String cursor,
+                                    @RequestParam(defaultValue = "50") int size,
+                                    Authentication auth) {
+        try {
+            return ResponseEntity.ok(svc.roster(eventId, status, cursor, size, auth));
+        } catch (SecurityException ex) {
+            return ResponseEntity.status(403).body(java.util.Map.of("error", ex.getMessage()));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body(java.util.Map.of("error", "Unable to list registrations"));
+        }
+    }
+
+    // Organizer/Admin: maintained per-status counters (one primary-key read)
+    @PreAuthorize("hasAnyRole('ORGANIZER','ADMIN')")
+    @GetMapping("/events/{eventId}/registrations/counts")
+    public ResponseEntity<?> counts(@PathVariable Long eventId, Authentication auth) {
+        try {
+            return ResponseEntity.ok(svc.counts(eventId, auth));
+        } catch (SecurityException ex) {
+            return ResponseEntity.status(403).body(java.util.Map.of("error", ex.getMessage()));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(404).body(java.util.Map.of("error", ex.getMessage()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body(java.util.Map.of("error", "Unable to load registration counts"));
+        }
+    }
+
     // Volunteer: list own registrations
     @PreAuthorize("hasRole('VOLUNTEER')")
     @GetMapping("/me/registrations")
@@ -77,6 +145,22 @@ public class RegistrationController {
         }
     }
 
+    // Volunteer: own history, newest first (?status=&from=&to=&cursor=&size=)
+    @PreAuthorize("hasRole('VOLUNTEER')")
+    @GetMapping("/me/registrations/history")
+    public ResponseEntity<?> history(@ModelAttribute ParticipationFilter filter,
+                                     @RequestParam(required = false) String cursor,
+                                     @RequestParam(defaultValue = "20") int size,
+                                     Authentication auth) {
+        try {
+            return ResponseEntity.ok(svc.history(filter, cursor, size, auth));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body(java.util.Map.of("error", "Unable to list registrations"));
+        }
+    }
+
     // Organizer/Admin: approve a registration
     @PreAuthorize("hasAnyRole('ORGANIZER','ADMIN')")
     @PostMapping("/events/{eventId}/registrations/{registrationId}/approve")
@@ -122,4 +206,77 @@ public class RegistrationController {
             return ResponseEntity.status(500).body(java.util.Map.of("error", "Unable to complete registration"));
         }
     }
+
+    // Organizer/Admin: approve many registrations; overflow beyond capacity is waitlisted
+    @PreAuthorize("hasAnyRole('ORGANIZER','ADMIN')")
+    @PostMapping("/events/{eventId}/registrations/bulk/approve")
+    public ResponseEntity<?> bulkApprove(@PathVariable Long eventId, @Valid @RequestBody BulkRegistrationRequest req, Authentication auth) {
+        try {
+            return ResponseEntity.ok(bulk.approve(eventId, req.getIds(), auth));
+        } catch (SecurityException ex) {
+            return ResponseEntity.status(403).body(java.util.Map.of("error", ex.getMessage()));
+        } catch (NotFoundException ex) {
+            return ResponseEntity.status(404).body(java.util.Map.of("error", ex.getMessage()));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body(java.util.Map.of("error", "Unable to approve registrations"));
+        }
+    }
+
+    // Organizer/Admin: reject many registrations
+    @PreAuthorize("hasAnyRole('ORGANIZER','ADMIN')")
+    @PostMapping("/events/{eventId}/registrations/bulk/reject")
+    public ResponseEntity<?> bulkReject(@PathVariable Long eventId, @Valid @RequestBody BulkRegistrationRequest req, Authentication auth) {
+        try {
+            return ResponseEntity.ok(bulk.reject(eventId, req.getIds(), auth));
+        } catch (SecurityException ex) {
+            return ResponseEntity.status(403).body(java.util.Map.of("error", ex.getMessage()));
+        } catch (NotFoundException ex) {
+            return ResponseEntity.status(404).body(java.util.Map.of("error", ex.getMessage()));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body(java.util.Map.of("error", "Unable to reject registrations"));
+        }
+    }
+
+    // Organizer/Admin: mark many registrations completed with attendance (JSON sheet)
+    @PreAuthorize("hasAnyRole('ORGANIZER','ADMIN')")
+    @PostMapping(value = "/events/{eventId}/registrations/bulk/complete", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> bulkComplete(@PathVariable Long eventId, @Valid @RequestBody BulkCompletionRequest req, Authentication auth) {
+        try {
+            return ResponseEntity.ok(bulk.complete(eventId, req.getEntries(), auth));
+        } catch (SecurityException ex) {
+            return ResponseEntity.status(403).body(java.util.Map.of("error", ex.getMessage()));
+        } catch (NotFoundException ex) {
+            return ResponseEntity.status(404).body(java.util.Map.of("error", ex.getMessage()));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body(java.util.Map.of("error", "Unable to complete registrations"));
+        }
+    }
+
+    // multipart "file": CSV attendance sheet with header registrationId,present,note
+    @PreAuthorize("hasAnyRole('ORGANIZER','ADMIN')")
+    @PostMapping(value = "/events/{eventId}/registrations/bulk/complete", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> bulkCompleteCsv(@PathVariable Long eventId, @RequestParam("file") MultipartFile file, Authentication auth) {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", "File is empty"));
+        }
+        try (var in = file.getInputStream()) {
+            return ResponseEntity.ok(bulk.completeFromCsv(eventId, in, auth));
+        } catch (SecurityException ex) {
+            return ResponseEntity.status(403).body(java.util.Map.of("error", ex.getMessage()));
+        } catch (NotFoundException ex) {
+            return ResponseEntity.status(404).body(java.util.Map.of("error", ex.getMessage()));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", ex.getMessage()));
+        } catch (java.io.IOException ex) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", "Unreadable file: " + ex.getMessage()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(500).body(java.util.Map.of("error", "Unable to complete registrations"));
+        }
+    }
 }
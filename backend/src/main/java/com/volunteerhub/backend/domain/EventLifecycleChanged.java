@@ -0,0 +1,13 @@
+package com.volunteerhub.backend.domain;
+
+import java.util.List;
+
+// Published inside the lifecycle transaction; listeners react after commit.
+// registrationIds: pending/approved registrations of the event at the time of the transition.
+public record EventLifecycleChanged(Long eventId, Long version, Transition transition, List<Long> registrationIds) {
+
+    public enum Transition {
+        REGISTRATION_CLOSED,
+        COMPLETED
+    }
+}
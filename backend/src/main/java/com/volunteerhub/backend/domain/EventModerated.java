@@ -0,0 +1,6 @@
+package com.volunteerhub.backend.domain;
+
+// Published inside the moderation transaction (single or bulk); listeners react after commit.
+public record EventModerated(Long eventId, Long version, Long organizerId, String eventName, boolean approved,
+                             String reason) {
+}
@@ -0,0 +1,35 @@
+package com.volunteerhub.backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// Attendance sheet: one entry per registration
+@Getter
+@Setter
+public class BulkCompletionRequest {
+
+    @NotEmpty
+    @Size(max = 1000)
+    @Valid
+    private List<Entry> entries;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        @NotNull
+        private Long registrationId;
+        private boolean present = true;
+        @Size(max = 1000)
+        private String note;
+    }
+}
@@ -0,0 +1,21 @@
+package com.volunteerhub.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkModerationRequest {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@NotNull Long> ids;
+
+    @Size(max = 1000)
+    private String reason;
+}
@@ -0,0 +1,16 @@
+package com.volunteerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// updated: ids moved by this request; skipped: unknown, deleted or no longer pending
+@Getter
+@Setter
+@AllArgsConstructor
+public class BulkModerationResponse {
+    private List<Long> updated;
+    private List<Long> skipped;
+}
@@ -0,0 +1,18 @@
+package com.volunteerhub.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkRegistrationRequest {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull Long> ids;
+}
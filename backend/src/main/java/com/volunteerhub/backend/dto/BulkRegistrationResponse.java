@@ -0,0 +1,26 @@
+package com.volunteerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+// One result per requested id, in request order; counts: outcome -> number of ids.
+// outcome: approved | waitlisted | rejected | completed | unchanged | skipped | not_found
+@Getter
+@Setter
+@AllArgsConstructor
+public class BulkRegistrationResponse {
+    private List<Result> results;
+    private Map<String, Integer> counts;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private Long id;
+        private String outcome;
+        private String message;
+    }
+}
@@ -0,0 +1,14 @@
+package com.volunteerhub.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CheckInRequest {
+    @NotBlank
+    @Size(max = 128)
+    private String token;
+}
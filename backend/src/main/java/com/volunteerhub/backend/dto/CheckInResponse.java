@@ -0,0 +1,15 @@
+package com.volunteerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+// outcome: checked_in | already_checked_in (repeat scans are not errors)
+@Getter
+@Setter
+@AllArgsConstructor
+public class CheckInResponse {
+    private Long registrationId;
+    private Long eventId;
+    private String outcome;
+}
@@ -0,0 +1,18 @@
+package com.volunteerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Payload for the volunteer's QR code
+@Getter
+@Setter
+@AllArgsConstructor
+public class CheckInTokenResponse {
+    private Long registrationId;
+    private Long eventId;
+    private String token;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,17 @@
+package com.volunteerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// Slice-style page for keyset pagination: no total count, nextCursor is null on the last page.
+@Getter
+@Setter
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
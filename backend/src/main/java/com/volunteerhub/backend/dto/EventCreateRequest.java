@@ -1,5 +1,7 @@
 package com.volunteerhub.backend.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -29,6 +31,14 @@ public class EventCreateRequest {
 
     private String address;
 
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    private Double latitude;
+
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    private Double longitude;
+
     @NotNull
     private LocalDateTime startDate;
 
@@ -0,0 +1,26 @@
+package com.volunteerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// Result of a bulk import; rows are 1-based data rows (CSV header / JSON array brackets not counted).
+@Getter
+@Setter
+@AllArgsConstructor
+public class EventImportReport {
+    private int total;
+    private int imported;
+    private int failed;
+    private long elapsedMs;
+    private List<RowError> errors;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;
+        private String error;
+    }
+}
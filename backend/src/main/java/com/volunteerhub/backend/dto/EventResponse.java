@@ -19,11 +19,15 @@ public class EventResponse {
     private String category;
     private String location;
     private String address;
+    private Double latitude;
+    private Double longitude;
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private Integer maxVolunteers;
     private Integer currentVolunteers;
     private String status;
+    private Boolean registrationOpen;
+    private Boolean highDemand;
     private String imageUrl;
     private String requirements;
     private String benefits;
@@ -32,4 +36,5 @@ public class EventResponse {
     private LocalDateTime updatedAt;
     private LocalDateTime approvedAt;
     private Long approvedBy;
+    private Long version;
 }
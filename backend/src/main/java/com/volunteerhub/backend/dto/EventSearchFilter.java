@@ -0,0 +1,25 @@
+package com.volunteerhub.backend.dto;
+
+import com.volunteerhub.backend.entity.EventStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+// Optional search criteria bound from query params; null fields are not applied.
+@Getter
+@Setter
+@NoArgsConstructor
+public class EventSearchFilter {
+    private EventStatus status;
+    private String category;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+    private String location;
+    private Boolean hasCapacity;
+    private Long organizerId;
+}
@@ -0,0 +1,27 @@
+package com.volunteerhub.backend.dto;
+
+import com.volunteerhub.backend.entity.EventStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Card-sized view of an event for search results (no TEXT columns, no joins).
+@Getter
+@Setter
+@AllArgsConstructor
+public class EventSummaryResponse {
+    private Long id;
+    private Long organizerId;
+    private String name;
+    private String slug;
+    private String category;
+    private String location;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private Integer maxVolunteers;
+    private Integer currentVolunteers;
+    private EventStatus status;
+    private String imageUrl;
+}
@@ -0,0 +1,13 @@
+package com.volunteerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class NearbyEventResponse {
+    private EventSummaryResponse event;
+    private double distanceKm;
+}
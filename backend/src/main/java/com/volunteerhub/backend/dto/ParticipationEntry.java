@@ -0,0 +1,29 @@
+package com.volunteerhub.backend.dto;
+
+import com.volunteerhub.backend.entity.RegistrationEntity.AttendanceStatus;
+import com.volunteerhub.backend.entity.RegistrationEntity.RegistrationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// One row of a volunteer's history: registration + event columns from a single join.
+@Getter
+@Setter
+@AllArgsConstructor
+public class ParticipationEntry {
+    private Long id;
+    private Long eventId;
+    private String eventName;
+    private String eventSlug;
+    private String eventLocation;
+    private LocalDateTime eventStartDate;
+    private LocalDateTime eventEndDate;
+    private RegistrationStatus status;
+    private AttendanceStatus attendanceStatus;
+    private LocalDateTime registeredAt;
+    private LocalDateTime approvedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime cancelledAt;
+}
@@ -0,0 +1,21 @@
+package com.volunteerhub.backend.dto;
+
+import com.volunteerhub.backend.entity.RegistrationEntity.RegistrationStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+// Optional history criteria bound from query params; from/to bound registered_at, null fields are not applied.
+@Getter
+@Setter
+@NoArgsConstructor
+public class ParticipationFilter {
+    private RegistrationStatus status;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+}
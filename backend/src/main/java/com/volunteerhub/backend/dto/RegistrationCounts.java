@@ -0,0 +1,20 @@
+package com.volunteerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+// Maintained registration counters of one event; present = checked in (attendance_status = 'present').
+@Getter
+@Setter
+@AllArgsConstructor
+public class RegistrationCounts {
+    private Long eventId;
+    private int pending;
+    private int approved;
+    private int waitlisted;
+    private int rejected;
+    private int cancelled;
+    private int completed;
+    private int present;
+}
@@ -0,0 +1,17 @@
+package com.volunteerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+// High-demand registration receipt; status: queued | registered | duplicate | rejected
+@Getter
+@Setter
+@AllArgsConstructor
+public class RegistrationTicket {
+    private String ticketId;
+    private Long eventId;
+    private String status;
+    private Long registrationId;
+    private String error;
+}
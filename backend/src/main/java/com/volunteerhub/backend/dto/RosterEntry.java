@@ -0,0 +1,26 @@
+package com.volunteerhub.backend.dto;
+
+import com.volunteerhub.backend.entity.RegistrationEntity.AttendanceStatus;
+import com.volunteerhub.backend.entity.RegistrationEntity.RegistrationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// One roster row: registration + volunteer columns from a single join (no entities, no notes).
+@Getter
+@Setter
+@AllArgsConstructor
+public class RosterEntry {
+    private Long id;
+    private Long volunteerId;
+    private String volunteerName;
+    private String volunteerEmail;
+    private RegistrationStatus status;
+    private AttendanceStatus attendanceStatus;
+    private LocalDateTime registeredAt;
+    private LocalDateTime approvedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime cancelledAt;
+}
@@ -0,0 +1,18 @@
+package com.volunteerhub.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// Keyset page of the roster plus the event's maintained registration counters.
+@Getter
+@Setter
+@AllArgsConstructor
+public class RosterPage {
+    private List<RosterEntry> items;
+    private String nextCursor;
+    private boolean hasNext;
+    private RegistrationCounts counts;
+}
@@ -42,6 +42,12 @@ public class EventEntity {
     @Column(name = "address", columnDefinition = "TEXT")
     private String address;
 
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "start_date", nullable = false)
     private LocalDateTime startDate;
 
@@ -58,6 +64,13 @@ public class EventEntity {
     @Column(name = "status", nullable = false, length = 20)
     private EventStatus status = EventStatus.pending;
 
+    @Column(name = "registration_open", nullable = false)
+    private Boolean registrationOpen = true;
+
+    // registrations go through the admission queue instead of a synchronous insert
+    @Column(name = "high_demand", nullable = false)
+    private Boolean highDemand = false;
+
     @Column(name = "image_url", length = 500)
     private String imageUrl;
 
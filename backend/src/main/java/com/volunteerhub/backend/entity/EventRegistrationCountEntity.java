@@ -0,0 +1,46 @@
+package com.volunteerhub.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Read side of event_registration_counts; writes go through EventRegistrationCountRepository upserts.
+@Entity
+@Table(name = "event_registration_counts")
+@Getter
+@Setter
+@NoArgsConstructor
+public class EventRegistrationCountEntity {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "pending", nullable = false)
+    private Integer pending = 0;
+
+    @Column(name = "approved", nullable = false)
+    private Integer approved = 0;
+
+    @Column(name = "waitlisted", nullable = false)
+    private Integer waitlisted = 0;
+
+    @Column(name = "rejected", nullable = false)
+    private Integer rejected = 0;
+
+    @Column(name = "cancelled", nullable = false)
+    private Integer cancelled = 0;
+
+    @Column(name = "completed", nullable = false)
+    private Integer completed = 0;
+
+    // attendance_status = 'present'
+    @Column(name = "present", nullable = false)
+    private Integer present = 0;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
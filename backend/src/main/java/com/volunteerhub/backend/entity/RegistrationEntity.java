@@ -65,7 +65,7 @@ public class RegistrationEntity {
     }
 
     public enum RegistrationStatus {
-        pending, approved, rejected, cancelled, completed
+        pending, approved, waitlisted, rejected, cancelled, completed
     }
 
     public enum AttendanceStatus {
@@ -0,0 +1,10 @@
+package com.volunteerhub.backend.exception;
+
+// The addressed resource does not exist; an IllegalArgumentException, so existing 400 handlers still catch it,
+// while controllers that tell the two apart answer 404.
+public class NotFoundException extends IllegalArgumentException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
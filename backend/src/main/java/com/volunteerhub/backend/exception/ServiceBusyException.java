@@ -0,0 +1,16 @@
+package com.volunteerhub.backend.exception;
+
+// Thrown when a bounded resource (queue, executor) is saturated; mapped to 503 + Retry-After.
+public class ServiceBusyException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public ServiceBusyException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,48 @@
+package com.volunteerhub.backend.listener;
+
+import com.volunteerhub.backend.domain.EventModerated;
+import com.volunteerhub.backend.entity.NotificationEntity;
+import com.volunteerhub.backend.repository.NotificationRepository;
+import com.volunteerhub.backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Side effects of approve/reject, off the request thread and only for committed decisions.
+// Post walls need no action: createPost checks the event status, which the moderation update already set.
+@Component
+public class EventModerationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(EventModerationListener.class);
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+
+    public EventModerationListener(NotificationRepository notificationRepository, UserRepository userRepository) {
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void notifyOrganizer(EventModerated event) {
+        try {
+            NotificationEntity n = new NotificationEntity();
+            n.setUser(userRepository.getReferenceById(event.organizerId()));
+            n.setType(event.approved() ? "event_approved" : "event_rejected");
+            n.setTitle(event.approved() ? "Event approved" : "Event rejected");
+            String message = "Your event \"" + event.eventName() + "\" was " + (event.approved() ? "approved." : "rejected.");
+            if (event.reason() != null && !event.reason().isBlank()) message += " Reason: " + event.reason();
+            n.setMessage(message);
+            n.setLink("/events/" + event.eventId());
+            notificationRepository.save(n);
+        } catch (Exception ex) {
+            log.warn("Could not notify organizer of event {}: {}", event.eventId(), ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.volunteerhub.backend.repository;
+
+import com.volunteerhub.backend.entity.EventRegistrationCountEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EventRegistrationCountRepository extends JpaRepository<EventRegistrationCountEntity, Long> {
+
+    // one statement whether or not the row exists yet
+    @Modifying
+    @Query(value = "INSERT INTO event_registration_counts " +
+            "(event_id, pending, approved, waitlisted, rejected, cancelled, completed, present, updated_at) " +
+            "VALUES (:eventId, :pending, :approved, :waitlisted, :rejected, :cancelled, :completed, :present, :now) " +
+            "ON DUPLICATE KEY UPDATE pending = pending + VALUES(pending), approved = approved + VALUES(approved), " +
+            "waitlisted = waitlisted + VALUES(waitlisted), rejected = rejected + VALUES(rejected), " +
+            "cancelled = cancelled + VALUES(cancelled), completed = completed + VALUES(completed), " +
+            "present = present + VALUES(present), updated_at = VALUES(updated_at)", nativeQuery = true)
+    int addCounts(@Param("eventId") Long eventId,
+                  @Param("pending") int pending, @Param("approved") int approved,
+                  @Param("waitlisted") int waitlisted, @Param("rejected") int rejected,
+                  @Param("cancelled") int cancelled, @Param("completed") int completed,
+                  @Param("present") int present, @Param("now") LocalDateTime now);
+
+    // reconciliation: absolute values
+    @Modifying
+    @Query(value = "INSERT INTO event_registration_counts " +
+            "(event_id, pending, approved, waitlisted, rejected, cancelled, completed, present, updated_at) " +
+            "VALUES (:eventId, :pending, :approved, :waitlisted, :rejected, :cancelled, :completed, :present, :now) " +
+            "ON DUPLICATE KEY UPDATE pending = VALUES(pending), approved = VALUES(approved), " +
+            "waitlisted = VALUES(waitlisted), rejected = VALUES(rejected), cancelled = VALUES(cancelled), " +
+            "completed = VALUES(completed), present = VALUES(present), updated_at = VALUES(updated_at)", nativeQuery = true)
+    int setCounts(@Param("eventId") Long eventId,
+                  @Param("pending") int pending, @Param("approved") int approved,
+                  @Param("waitlisted") int waitlisted, @Param("rejected") int rejected,
+                  @Param("cancelled") int cancelled, @Param("completed") int completed,
+                  @Param("present") int present, @Param("now") LocalDateTime now);
+
+    // reconciliation: writers upsert these rows last in their transaction, so they wait here
+    @Query(value = "SELECT event_id FROM event_registration_counts WHERE event_id IN (:eventIds) FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    List<EventRegistrationCountEntity> findByEventIdIn(Collection<Long> eventIds);
+
+    // counter rows changed since a point in time: keyset on idx_reg_counts_updated (updated_at, event_id)
+    @Query(value = "SELECT event_id AS eventId, updated_at AS updatedAt FROM event_registration_counts " +
+            "WHERE updated_at > :at OR (updated_at = :at AND event_id > :afterId) " +
+            "ORDER BY updated_at, event_id LIMIT :limit", nativeQuery = true)
+    List<ChangedView> findChangedAfter(@Param("at") LocalDateTime at, @Param("afterId") Long afterId,
+                                       @Param("limit") int limit);
+
+    interface ChangedView {
+        Long getEventId();
+        LocalDateTime getUpdatedAt();
+    }
+}
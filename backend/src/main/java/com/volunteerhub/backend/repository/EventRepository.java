@@ -1,11 +1,201 @@
 package com.volunteerhub.backend.repository;
 
+import com.volunteerhub.backend.dto.EventSummaryResponse;
 import com.volunteerhub.backend.entity.EventEntity;
 import com.volunteerhub.backend.entity.EventStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface EventRepository extends JpaRepository<EventEntity, Long> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface EventRepository extends JpaRepository<EventEntity, Long>, EventSearchRepository {
+    // list paths map organizerName -> fetch the organizer in the same select (count query stays plain)
+    @EntityGraph(attributePaths = "organizer")
     Page<EventEntity> findByStatus(EventStatus status, Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "organizer")
+    Page<EventEntity> findAll(Pageable pageable);
+
+    // detail view: organizer in the same select
+    @EntityGraph(attributePaths = "organizer")
+    Optional<EventEntity> findWithOrganizerById(Long id);
+
+    @Query("select e.id from EventEntity e where e.slug = :slug")
+    Optional<Long> findIdBySlug(@Param("slug") String slug);
+
+    @Query("select e.slug from EventEntity e where e.slug in :slugs")
+    List<String> findExistingSlugs(@Param("slugs") Collection<String> slugs);
+
+    // taken "<base>-<n>" suffixes for collision handling (uq_events_slug range scan)
+    @Query("select e.slug from EventEntity e where e.slug like :prefix")
+    List<String> findSlugsLike(@Param("prefix") String prefix);
+
+    // Keyset pages over (start_date, id): idx_status_start / idx_start_date (InnoDB appends the PK),
+    // so page N costs the same as page 1. Slice -> LIMIT size+1, no COUNT(*).
+    @EntityGraph(attributePaths = "organizer")
+    @Query("select e from EventEntity e order by e.startDate asc, e.id asc")
+    Slice<EventEntity> findFirstKeysetPage(Pageable pageable);
+
+    @EntityGraph(attributePaths = "organizer")
+    @Query("select e from EventEntity e " +
+            "where e.startDate >= :startDate and (e.startDate > :startDate or e.id > :id) " +
+            "order by e.startDate asc, e.id asc")
+    Slice<EventEntity> findKeysetPageAfter(@Param("startDate") LocalDateTime startDate,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    @EntityGraph(attributePaths = "organizer")
+    @Query("select e from EventEntity e where e.status = :status order by e.startDate asc, e.id asc")
+    Slice<EventEntity> findFirstKeysetPageByStatus(@Param("status") EventStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = "organizer")
+    @Query("select e from EventEntity e " +
+            "where e.status = :status and e.startDate >= :startDate and (e.startDate > :startDate or e.id > :id) " +
+            "order by e.startDate asc, e.id asc")
+    Slice<EventEntity> findKeysetPageByStatusAfter(@Param("status") EventStatus status,
+                                                   @Param("startDate") LocalDateTime startDate,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
+
+    @Query("select new com.volunteerhub.backend.dto.EventSummaryResponse(e.id, e.organizer.id, e.name, e.slug, " +
+            "e.category, e.location, e.startDate, e.endDate, e.maxVolunteers, e.currentVolunteers, e.status, e.imageUrl) " +
+            "from EventEntity e where e.id in :ids and e.isDeleted = false")
+    List<EventSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // text/geo index feed, keyset over (updated_at, id) -> idx_events_updated_at
+    @Query("select e.id as id, e.name as name, e.description as description, e.status as status, " +
+            "e.latitude as latitude, e.longitude as longitude, e.startDate as startDate, " +
+            "e.isDeleted as isDeleted, e.updatedAt as updatedAt from EventEntity e " +
+            "where e.updatedAt > :updatedAt or (e.updatedAt = :updatedAt and e.id > :id) " +
+            "order by e.updatedAt asc, e.id asc")
+    List<EventIndexView> findIndexChangedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                              @Param("id") Long id, Pageable pageable);
+
+    @Query("select e.id as id, e.version as version from EventEntity e where e.id in :ids")
+    List<VersionView> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // lifecycle chunks: range on idx_status_start, rows claimed by another node are skipped
+    @Query(value = "SELECT id FROM events WHERE status = 'approved' AND start_date <= :now " +
+            "AND registration_open = TRUE ORDER BY start_date LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockDueForRegistrationClose(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // end_date >= start_date, so the start_date bound keeps this on the same index range
+    @Query(value = "SELECT id FROM events WHERE status = 'approved' AND start_date <= :now " +
+            "AND end_date <= :now ORDER BY start_date LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockDueForCompletion(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE events SET registration_open = FALSE, version = version + 1, updated_at = :now " +
+            "WHERE id IN (:ids)", nativeQuery = true)
+    int closeRegistration(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE events SET status = 'completed', registration_open = FALSE, version = version + 1, " +
+            "updated_at = :now WHERE id IN (:ids)", nativeQuery = true)
+    int complete(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query(value = "select new com.volunteerhub.backend.dto.EventSummaryResponse(e.id, e.organizer.id, e.name, e.slug, " +
+            "e.category, e.location, e.startDate, e.endDate, e.maxVolunteers, e.currentVolunteers, e.status, e.imageUrl) " +
+            "from EventEntity e where e.status = com.volunteerhub.backend.entity.EventStatus.pending " +
+            "and e.isDeleted = false order by e.createdAt asc, e.id asc",
+            countQuery = "select count(e) from EventEntity e " +
+                    "where e.status = com.volunteerhub.backend.entity.EventStatus.pending and e.isDeleted = false")
+    Page<EventSummaryResponse> findPendingQueue(Pageable pageable);
+
+    // bulk moderation: claim rows that are still pending; concurrent moderators wait, then see them moved
+    @Query(value = "SELECT id FROM events WHERE id IN (:ids) AND status = 'pending' AND is_deleted = FALSE " +
+            "FOR UPDATE", nativeQuery = true)
+    List<Long> lockPendingByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "UPDATE events SET status = 'approved', approved_by = :adminId, approved_at = :now, " +
+            "version = version + 1, updated_at = :now WHERE id IN (:ids)", nativeQuery = true)
+    int approveAll(@Param("ids") Collection<Long> ids, @Param("adminId") Long adminId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "UPDATE events SET status = 'rejected', registration_open = FALSE, approved_by = :adminId, " +
+            "approved_at = :now, version = version + 1, updated_at = :now WHERE id IN (:ids)", nativeQuery = true)
+    int rejectAll(@Param("ids") Collection<Long> ids, @Param("adminId") Long adminId, @Param("now") LocalDateTime now);
+
+    @Query("select e.id as id, e.version as version, e.organizer.id as organizerId, e.name as name " +
+            "from EventEntity e where e.id in :ids")
+    List<ModerationView> findModerationViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Capacity as one conditional statement: the row lock lasts a single UPDATE (plus the short
+    // approve/cancel transaction), no read-check-write window, no OptimisticLockException.
+    // 0 rows = full (or no such event).
+    @Modifying
+    @Query("update EventEntity e set e.currentVolunteers = e.currentVolunteers + 1, e.version = e.version + 1 " +
+            "where e.id = :id and (e.maxVolunteers is null or e.currentVolunteers < e.maxVolunteers)")
+    int tryReserveSlot(@Param("id") Long id);
+
+    @Modifying
+    @Query("update EventEntity e set e.currentVolunteers = e.currentVolunteers - 1, e.version = e.version + 1 " +
+            "where e.id = :id and e.currentVolunteers > 0")
+    int releaseSlot(@Param("id") Long id);
+
+    // n slots at once (waitlist promotion); 0 rows = fewer than n free
+    @Modifying
+    @Query("update EventEntity e set e.currentVolunteers = e.currentVolunteers + :n, e.version = e.version + 1 " +
+            "where e.id = :id and (e.maxVolunteers is null or e.currentVolunteers + :n <= e.maxVolunteers)")
+    int tryReserveSlots(@Param("id") Long id, @Param("n") int n);
+
+    @Modifying
+    @Query("update EventEntity e set e.currentVolunteers = e.currentVolunteers - :n, e.version = e.version + 1 " +
+            "where e.id = :id and e.currentVolunteers >= :n")
+    int releaseSlots(@Param("id") Long id, @Param("n") int n);
+
+    @Query("select e.organizer.id as organizerId, e.maxVolunteers as maxVolunteers, " +
+            "e.currentVolunteers as currentVolunteers from EventEntity e where e.id = :id")
+    Optional<CapacityView> findCapacityById(@Param("id") Long id);
+
+    // locking read: current (not snapshot) counters, held until commit -> one capacity decision per batch
+    @Query(value = "SELECT organizer_id AS organizerId, max_volunteers AS maxVolunteers, " +
+            "current_volunteers AS currentVolunteers FROM events WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<CapacityView> lockCapacityById(@Param("id") Long id);
+
+    // maintenance walks (counter reconciliation) over one status: keyset on idx_status (status, id), index only
+    @Query("select e.id from EventEntity e where e.status = :status and e.id > :afterId order by e.id asc")
+    List<Long> findIdsByStatusAfter(@Param("status") EventStatus status, @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    interface CapacityView {
+        Long getOrganizerId();
+        Integer getMaxVolunteers();
+        Integer getCurrentVolunteers();
+    }
+
+    interface ModerationView {
+        Long getId();
+        Long getVersion();
+        Long getOrganizerId();
+        String getName();
+    }
+
+    interface VersionView {
+        Long getId();
+        Long getVersion();
+    }
+
+    interface EventIndexView {
+        Long getId();
+        String getName();
+        String getDescription();
+        EventStatus getStatus();
+        Double getLatitude();
+        Double getLongitude();
+        LocalDateTime getStartDate();
+        Boolean getIsDeleted();
+        LocalDateTime getUpdatedAt();
+    }
 }
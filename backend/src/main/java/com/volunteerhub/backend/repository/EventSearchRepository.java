@@ -0,0 +1,11 @@
+package com.volunteerhub.backend.repository;
+
+import com.volunteerhub.backend.dto.EventSearchFilter;
+import com.volunteerhub.backend.dto.EventSummaryResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+// Custom fragment of EventRepository: composable filters, summary projection.
+public interface EventSearchRepository {
+    Page<EventSummaryResponse> search(EventSearchFilter filter, Pageable pageable);
+}
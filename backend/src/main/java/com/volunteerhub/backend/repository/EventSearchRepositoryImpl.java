@@ -0,0 +1,76 @@
+package com.volunteerhub.backend.repository;
+
+import com.volunteerhub.backend.dto.EventSearchFilter;
+import com.volunteerhub.backend.dto.EventSummaryResponse;
+import com.volunteerhub.backend.entity.EventEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EventSearchRepositoryImpl implements EventSearchRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Page<EventSummaryResponse> search(EventSearchFilter filter, Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        CriteriaQuery<EventSummaryResponse> q = cb.createQuery(EventSummaryResponse.class);
+        Root<EventEntity> e = q.from(EventEntity.class);
+        // organizer.id reads the FK column, no join to users
+        q.select(cb.construct(EventSummaryResponse.class,
+                e.get("id"), e.get("organizer").get("id"), e.get("name"), e.get("slug"),
+                e.get("category"), e.get("location"), e.get("startDate"), e.get("endDate"),
+                e.get("maxVolunteers"), e.get("currentVolunteers"), e.get("status"), e.get("imageUrl")));
+        q.where(predicates(cb, e, filter));
+        // same order as the keyset listing -> rides (status|category|organizer_id, start_date) indexes
+        q.orderBy(cb.asc(e.get("startDate")), cb.asc(e.get("id")));
+        List<EventSummaryResponse> content = em.createQuery(q)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // skip COUNT(*) when the first page is already short
+        if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        CriteriaQuery<Long> count = cb.createQuery(Long.class);
+        Root<EventEntity> c = count.from(EventEntity.class);
+        count.select(cb.count(c)).where(predicates(cb, c, filter));
+        return new PageImpl<>(content, pageable, em.createQuery(count).getSingleResult());
+    }
+
+    private Predicate[] predicates(CriteriaBuilder cb, Root<EventEntity> e, EventSearchFilter f) {
+        List<Predicate> ps = new ArrayList<>();
+        ps.add(cb.isFalse(e.get("isDeleted")));
+        if (f.getStatus() != null) ps.add(cb.equal(e.get("status"), f.getStatus()));
+        if (StringUtils.hasText(f.getCategory())) ps.add(cb.equal(e.get("category"), f.getCategory().trim()));
+        if (f.getOrganizerId() != null) ps.add(cb.equal(e.get("organizer").get("id"), f.getOrganizerId()));
+        if (f.getFrom() != null) ps.add(cb.greaterThanOrEqualTo(e.get("startDate"), f.getFrom()));
+        if (f.getTo() != null) ps.add(cb.lessThan(e.get("startDate"), f.getTo()));
+        if (StringUtils.hasText(f.getLocation())) {
+            ps.add(cb.like(cb.lower(e.get("location")), "%" + escapeLike(f.getLocation().trim().toLowerCase()) + "%", '\\'));
+        }
+        if (Boolean.TRUE.equals(f.getHasCapacity())) {
+            // max_volunteers null = unlimited
+            ps.add(cb.or(cb.isNull(e.get("maxVolunteers")),
+                    cb.lessThan(e.<Integer>get("currentVolunteers"), e.<Integer>get("maxVolunteers"))));
+        }
+        return ps.toArray(new Predicate[0]);
+    }
+
+    private static String escapeLike(String s) {
+        return s.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
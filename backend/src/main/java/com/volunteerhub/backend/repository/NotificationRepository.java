@@ -0,0 +1,7 @@
+package com.volunteerhub.backend.repository;
+
+import com.volunteerhub.backend.entity.NotificationEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationRepository extends JpaRepository<NotificationEntity, Long> {
+}
@@ -0,0 +1,14 @@
+package com.volunteerhub.backend.repository;
+
+import com.volunteerhub.backend.dto.ParticipationEntry;
+import com.volunteerhub.backend.dto.ParticipationFilter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Custom fragment of RegistrationRepository: a volunteer's history, newest first, keyset-paged.
+public interface ParticipationHistoryRepository {
+    // afterAt/afterId null = first page; returns up to limit rows
+    List<ParticipationEntry> findHistory(Long volunteerId, ParticipationFilter filter,
+                                         LocalDateTime afterAt, Long afterId, int limit);
+}
@@ -0,0 +1,52 @@
+package com.volunteerhub.backend.repository;
+
+import com.volunteerhub.backend.dto.ParticipationEntry;
+import com.volunteerhub.backend.dto.ParticipationFilter;
+import com.volunteerhub.backend.entity.EventEntity;
+import com.volunteerhub.backend.entity.RegistrationEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ParticipationHistoryRepositoryImpl implements ParticipationHistoryRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<ParticipationEntry> findHistory(Long volunteerId, ParticipationFilter filter,
+                                                LocalDateTime afterAt, Long afterId, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<ParticipationEntry> q = cb.createQuery(ParticipationEntry.class);
+        Root<RegistrationEntity> r = q.from(RegistrationEntity.class);
+        // event columns come from the same select: no lazy load per row
+        Join<RegistrationEntity, EventEntity> e = r.join("event");
+        q.select(cb.construct(ParticipationEntry.class,
+                r.get("id"), e.get("id"), e.get("name"), e.get("slug"), e.get("location"),
+                e.get("startDate"), e.get("endDate"), r.get("status"), r.get("attendanceStatus"),
+                r.get("registeredAt"), r.get("approvedAt"), r.get("completedAt"), r.get("cancelledAt")));
+
+        List<Predicate> ps = new ArrayList<>();
+        ps.add(cb.equal(r.get("volunteer").get("id"), volunteerId));
+        if (filter.getStatus() != null) ps.add(cb.equal(r.get("status"), filter.getStatus()));
+        if (filter.getFrom() != null) ps.add(cb.greaterThanOrEqualTo(r.get("registeredAt"), filter.getFrom()));
+        if (filter.getTo() != null) ps.add(cb.lessThan(r.get("registeredAt"), filter.getTo()));
+        if (afterAt != null) {
+            // descending keyset: strictly before (afterAt, afterId)
+            ps.add(cb.lessThanOrEqualTo(r.get("registeredAt"), afterAt));
+            ps.add(cb.or(cb.lessThan(r.get("registeredAt"), afterAt), cb.lessThan(r.get("id"), afterId)));
+        }
+        q.where(ps.toArray(new Predicate[0]));
+        // rides idx_volunteer_registered (volunteer_id, registered_at, id) backwards
+        q.orderBy(cb.desc(r.get("registeredAt")), cb.desc(r.get("id")));
+        return em.createQuery(q).setMaxResults(limit).getResultList();
+    }
+}
@@ -2,10 +2,26 @@ package com.volunteerhub.backend.repository;
 
 import com.volunteerhub.backend.entity.PostCommentEntity;
 import com.volunteerhub.backend.entity.PostEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PostCommentRepository extends JpaRepository<PostCommentEntity, Long> {
+    @EntityGraph(attributePaths = "user")
     List<PostCommentEntity> findByPostAndIsDeletedFalseOrderByCreatedAtAsc(PostEntity post);
+
+    // ETag fingerprint of a comment list: one aggregate over idx_comment_post
+    @Query("select count(c) as count, max(c.updatedAt) as lastUpdated, max(c.id) as maxId " +
+            "from PostCommentEntity c where c.post.id = :postId and c.isDeleted = false")
+    CommentStamp findStampByPostId(@Param("postId") Long postId);
+
+    interface CommentStamp {
+        Long getCount();
+        LocalDateTime getLastUpdated();
+        Long getMaxId();
+    }
 }
@@ -3,6 +3,7 @@ package com.volunteerhub.backend.repository;
 import com.volunteerhub.backend.entity.PostLikeEntity;
 import com.volunteerhub.backend.entity.PostEntity;
 import com.volunteerhub.backend.entity.UserEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
@@ -10,6 +11,7 @@ import java.util.List;
 
 public interface PostLikeRepository extends JpaRepository<PostLikeEntity, Long> {
     Optional<PostLikeEntity> findByPostAndUser(PostEntity post, UserEntity user);
+    @EntityGraph(attributePaths = "user")
     List<PostLikeEntity> findByPost(PostEntity post);
     long countByPost(PostEntity post);
     void deleteByPostAndUser(PostEntity post, UserEntity user);
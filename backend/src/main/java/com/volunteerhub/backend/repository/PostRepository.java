@@ -4,8 +4,25 @@ import com.volunteerhub.backend.entity.EventEntity;
 import com.volunteerhub.backend.entity.PostEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 
 public interface PostRepository extends JpaRepository<PostEntity, Long> {
+    @EntityGraph(attributePaths = "user")
     Page<PostEntity> findByEventAndIsDeletedFalseOrderByCreatedAtDesc(EventEntity event, Pageable pageable);
+
+    // ETag fingerprint of the same page: updated_at moves on edits and like/comment counter changes
+    @Query(value = "select p.id as id, p.updatedAt as updatedAt from PostEntity p " +
+            "where p.event.id = :eventId and p.isDeleted = false order by p.createdAt desc",
+            countQuery = "select count(p) from PostEntity p where p.event.id = :eventId and p.isDeleted = false")
+    Page<StampView> findStampsByEventId(@Param("eventId") Long eventId, Pageable pageable);
+
+    interface StampView {
+        Long getId();
+        LocalDateTime getUpdatedAt();
+    }
 }
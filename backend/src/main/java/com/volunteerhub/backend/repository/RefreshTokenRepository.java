@@ -1,14 +1,43 @@
 package com.volunteerhub.backend.repository;
 
 import com.volunteerhub.backend.entity.RefreshTokenEntity;
-import com.volunteerhub.backend.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
     Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
-    List<RefreshTokenEntity> findByUser(UserEntity user);
-    void deleteAllByUser(UserEntity user);
+
+    // hashes of still-valid tokens, fed to the in-memory revocation index before a bulk revoke/delete
+    @Query("select t.tokenHash as tokenHash, t.expiresAt as expiresAt from RefreshTokenEntity t " +
+            "where t.user.id in :userIds and t.revoked = false")
+    List<ActiveTokenView> findActiveByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("update RefreshTokenEntity t set t.revoked = true where t.user.id in :userIds and t.revoked = false")
+    int revokeAllByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("delete from RefreshTokenEntity t where t.user.id in :userIds")
+    int deleteAllByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // MySQL DELETE ... LIMIT: bounded chunks, each walking one index
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBatch(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE revoked = TRUE LIMIT :limit", nativeQuery = true)
+    int deleteRevokedBatch(@Param("limit") int limit);
+
+    interface ActiveTokenView {
+        String getTokenHash();
+        LocalDateTime getExpiresAt();
+    }
 }
@@ -1,15 +1,127 @@
 package com.volunteerhub.backend.repository;
 
+import com.volunteerhub.backend.dto.RosterEntry;
 import com.volunteerhub.backend.entity.RegistrationEntity;
 import com.volunteerhub.backend.entity.EventEntity;
 import com.volunteerhub.backend.entity.UserEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface RegistrationRepository extends JpaRepository<RegistrationEntity, Long> {
+public interface RegistrationRepository extends JpaRepository<RegistrationEntity, Long>, ParticipationHistoryRepository {
     Optional<RegistrationEntity> findByEventAndVolunteer(EventEntity event, UserEntity volunteer);
+    // RegistrationMapper reads event name and volunteer name -> one joined select per list
+    @EntityGraph(attributePaths = {"event", "volunteer"})
     List<RegistrationEntity> findByEvent(EventEntity event);
+
+    @EntityGraph(attributePaths = {"event", "volunteer"})
     List<RegistrationEntity> findByVolunteer(UserEntity volunteer);
+
+    // serializes approve/reject/cancel of the same registration, so a slot is taken/released once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from RegistrationEntity r where r.id = :id")
+    Optional<RegistrationEntity> findByIdForUpdate(@Param("id") Long id);
+
+    // idx_event_status_registered
+    @Query("select r.event.id as eventId, r.id as id from RegistrationEntity r " +
+            "where r.event.id in :eventIds and r.status in :statuses")
+    List<EventRegistrationId> findIdsByEventIdsAndStatusIn(@Param("eventIds") Collection<Long> eventIds,
+                                                         @Param("statuses") Collection<RegistrationEntity.RegistrationStatus> statuses);
+
+    // waitlist head, FIFO: idx_event_status_registered (event_id, status, registered_at). Promotion runs after
+    // the event row is locked; rows held by a concurrent approve/cancel (registration locked before the event)
+    // are skipped instead of waited for, so the two lock orders cannot deadlock
+    @Query(value = "SELECT id FROM registrations WHERE event_id = :eventId AND status = 'waitlisted' " +
+            "ORDER BY registered_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockWaitlistHead(@Param("eventId") Long eventId, @Param("limit") int limit);
+
+    // status re-checked: a row cancelled since the head was read is skipped
+    @Modifying
+    @Query("update RegistrationEntity r set r.status = com.volunteerhub.backend.entity.RegistrationEntity.RegistrationStatus.approved, " +
+            "r.approvedAt = :now where r.id in :ids " +
+            "and r.status = com.volunteerhub.backend.entity.RegistrationEntity.RegistrationStatus.waitlisted")
+    int promoteWaitlisted(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // bulk decisions: lock the event's requested rows (ids of other events are simply not returned)
+    @Query(value = "SELECT id, status, attendance_status AS attendanceStatus FROM registrations " +
+            "WHERE event_id = :eventId AND id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<StatusView> lockByEventIdAndIdIn(@Param("eventId") Long eventId, @Param("ids") Collection<Long> ids);
+
+    // approvedAt doubles as "processed at" for rejections (as in reject())
+    @Modifying
+    @Query("update RegistrationEntity r set r.status = :status, r.approvedAt = :now where r.id in :ids")
+    int decideAll(@Param("ids") Collection<Long> ids,
+                  @Param("status") RegistrationEntity.RegistrationStatus status,
+                  @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update RegistrationEntity r set r.status = com.volunteerhub.backend.entity.RegistrationEntity.RegistrationStatus.waitlisted " +
+            "where r.id in :ids")
+    int waitlistAll(@Param("ids") Collection<Long> ids);
+
+    // roster: keyset over (registered_at, id); with a status it walks idx_event_status_registered
+    String ROSTER_SELECT = "select new com.volunteerhub.backend.dto.RosterEntry(r.id, v.id, v.fullName, v.email, " +
+            "r.status, r.attendanceStatus, r.registeredAt, r.approvedAt, r.completedAt, r.cancelledAt) " +
+            "from RegistrationEntity r join r.volunteer v ";
+
+    @Query(ROSTER_SELECT + "where r.event.id = :eventId order by r.registeredAt asc, r.id asc")
+    Slice<RosterEntry> findFirstRosterPage(@Param("eventId") Long eventId, Pageable pageable);
+
+    @Query(ROSTER_SELECT + "where r.event.id = :eventId " +
+            "and r.registeredAt >= :at and (r.registeredAt > :at or r.id > :id) " +
+            "order by r.registeredAt asc, r.id asc")
+    Slice<RosterEntry> findRosterPageAfter(@Param("eventId") Long eventId,
+                                           @Param("at") LocalDateTime at,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    @Query(ROSTER_SELECT + "where r.event.id = :eventId and r.status = :status order by r.registeredAt asc, r.id asc")
+    Slice<RosterEntry> findFirstRosterPageByStatus(@Param("eventId") Long eventId,
+                                                   @Param("status") RegistrationEntity.RegistrationStatus status,
+                                                   Pageable pageable);
+
+    @Query(ROSTER_SELECT + "where r.event.id = :eventId and r.status = :status " +
+            "and r.registeredAt >= :at and (r.registeredAt > :at or r.id > :id) " +
+            "order by r.registeredAt asc, r.id asc")
+    Slice<RosterEntry> findRosterPageByStatusAfter(@Param("eventId") Long eventId,
+                                                   @Param("status") RegistrationEntity.RegistrationStatus status,
+                                                   @Param("at") LocalDateTime at,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
+
+    // source of truth for the counter reconciliation
+    @Query("select r.event.id as eventId, r.status as status, count(r) as total, " +
+            "sum(case when r.attendanceStatus = com.volunteerhub.backend.entity.RegistrationEntity.AttendanceStatus.present " +
+            "then 1 else 0 end) as present " +
+            "from RegistrationEntity r where r.event.id in :eventIds group by r.event.id, r.status")
+    List<StatusCount> countByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    interface StatusCount {
+        Long getEventId();
+        RegistrationEntity.RegistrationStatus getStatus();
+        Long getTotal();
+        Long getPresent();
+    }
+
+    interface StatusView {
+        Long getId();
+        String getStatus();
+        String getAttendanceStatus();
+    }
+
+    interface EventRegistrationId {
+        Long getEventId();
+        Long getId();
+    }
 }
@@ -1,11 +1,17 @@
 package com.volunteerhub.backend.repository;
 
 import com.volunteerhub.backend.entity.UserEntity;
+import com.volunteerhub.backend.security.UserState;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("select new com.volunteerhub.backend.security.UserState(u.status, u.isDeleted) from UserEntity u where u.id = :id")
+    Optional<UserState> findStateById(@Param("id") Long id);
 }
@@ -0,0 +1,22 @@
+package com.volunteerhub.backend.scheduler;
+
+import com.volunteerhub.backend.service.ICheckInService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Writes queued check-in scans every flushIntervalMs: one JDBC batch per up to batchSize scans.
+@Component
+public class CheckInFlushJob {
+
+    private final ICheckInService checkInService;
+
+    public CheckInFlushJob(ICheckInService checkInService) {
+        this.checkInService = checkInService;
+    }
+
+    @Scheduled(initialDelayString = "${check-in.flushIntervalMs:500}",
+            fixedDelayString = "${check-in.flushIntervalMs:500}")
+    public void run() {
+        checkInService.flush();
+    }
+}
@@ -0,0 +1,68 @@
+package com.volunteerhub.backend.scheduler;
+
+import com.volunteerhub.backend.repository.EventRepository;
+import com.volunteerhub.backend.repository.EventRepository.EventIndexView;
+import com.volunteerhub.backend.search.EventGeoIndex;
+import com.volunteerhub.backend.search.EventTextIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Loads every event into EventTextIndex and EventGeoIndex on the first run, then picks up rows changed since the
+// last run (writes from other nodes, bulk SQL). Each run re-reads a small overlap window so rows
+// committed late with an older updated_at are not missed; re-indexing is idempotent.
+@Component
+public class EventIndexSyncJob {
+
+    private static final Logger log = LoggerFactory.getLogger(EventIndexSyncJob.class);
+    private static final int BATCH = 500;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final EventRepository eventRepository;
+    private final EventTextIndex index;
+    private final EventGeoIndex geoIndex;
+    private final long overlapMs;
+
+    private LocalDateTime watermark;
+
+    public EventIndexSyncJob(EventRepository eventRepository,
+                             EventTextIndex index,
+                             EventGeoIndex geoIndex,
+                             @Value("${search.events.syncOverlapMs:60000}") long overlapMs) {
+        this.eventRepository = eventRepository;
+        this.index = index;
+        this.geoIndex = geoIndex;
+        this.overlapMs = overlapMs;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${search.events.syncIntervalMs:30000}")
+    public synchronized void sync() {
+        boolean bootstrap = watermark == null;
+        LocalDateTime at = bootstrap ? EPOCH : watermark.minusNanos(overlapMs * 1_000_000);
+        Long id = 0L;
+        int seen = 0;
+        List<EventIndexView> rows;
+        do {
+            rows = eventRepository.findIndexChangedAfter(at, id, PageRequest.of(0, BATCH));
+            for (EventIndexView r : rows) {
+                index.upsert(r.getId(), r.getName(), r.getDescription(), r.getStatus(), r.getIsDeleted());
+                geoIndex.upsert(r.getId(), r.getLatitude(), r.getLongitude(), r.getStatus(), r.getStartDate(), r.getIsDeleted());
+                at = r.getUpdatedAt();
+                id = r.getId();
+            }
+            seen += rows.size();
+        } while (rows.size() == BATCH);
+        if (watermark == null || at.isAfter(watermark)) watermark = at;
+        if (bootstrap) {
+            log.info("Event indexes loaded: {} events", index.size());
+        } else if (seen > 0) {
+            log.debug("Event index sync: {} rows", seen);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.volunteerhub.backend.scheduler;
+
+import com.volunteerhub.backend.service.IEventLifecycleService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// Closes registration of approved events at start_date and completes them at end_date.
+// Chunks are claimed with FOR UPDATE SKIP LOCKED, so several nodes can run this concurrently.
+@Component
+public class EventLifecycleJob {
+
+    private static final Logger log = LoggerFactory.getLogger(EventLifecycleJob.class);
+
+    private final IEventLifecycleService lifecycleService;
+    private final int batchSize;
+
+    public EventLifecycleJob(IEventLifecycleService lifecycleService,
+                             @Value("${event-lifecycle.batchSize:200}") int batchSize) {
+        this.lifecycleService = lifecycleService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${event-lifecycle.intervalMs:60000}",
+            fixedDelayString = "${event-lifecycle.intervalMs:60000}")
+    public void run() {
+        LocalDateTime now = LocalDateTime.now();
+        int closed = 0;
+        int completed = 0;
+        int n;
+        do {
+            n = lifecycleService.closeRegistrationBatch(now, batchSize);
+            closed += n;
+        } while (n == batchSize);
+        do {
+            n = lifecycleService.completeBatch(now, batchSize);
+            completed += n;
+        } while (n == batchSize);
+        if (closed + completed > 0) {
+            log.info("Event lifecycle: registration closed for {}, completed {}", closed, completed);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.volunteerhub.backend.scheduler;
+
+import com.volunteerhub.backend.security.RefreshTokenProperties;
+import com.volunteerhub.backend.service.IRefreshTokenService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// Deletes expired and revoked refresh tokens in fixed-size chunks, one short transaction each,
+// so refresh_tokens and uq_refresh_token_hash stop growing. Safe to run on several nodes.
+@Component
+public class RefreshTokenPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenPurgeJob.class);
+
+    private final IRefreshTokenService refreshTokenService;
+    private final RefreshTokenProperties properties;
+
+    public RefreshTokenPurgeJob(IRefreshTokenService refreshTokenService, RefreshTokenProperties properties) {
+        this.refreshTokenService = refreshTokenService;
+        this.properties = properties;
+    }
+
+    @Scheduled(initialDelayString = "${refresh-token.purgeIntervalMs:3600000}",
+            fixedDelayString = "${refresh-token.purgeIntervalMs:3600000}")
+    public void purge() {
+        int batch = properties.getPurgeBatchSize();
+        LocalDateTime cutoff = LocalDateTime.now();
+        int expired = 0;
+        int revoked = 0;
+        int n;
+        do {
+            n = refreshTokenService.purgeExpired(cutoff, batch);
+            expired += n;
+        } while (n == batch && pause());
+        do {
+            n = refreshTokenService.purgeRevoked(batch);
+            revoked += n;
+        } while (n == batch && pause());
+        int pruned = refreshTokenService.pruneRevokedIndex();
+        if (expired + revoked + pruned > 0) {
+            log.info("Refresh token purge: {} expired, {} revoked rows deleted; {} index entries pruned",
+                    expired, revoked, pruned);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPurgePauseMs());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
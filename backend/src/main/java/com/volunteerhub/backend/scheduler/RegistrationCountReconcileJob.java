@@ -0,0 +1,88 @@
+package com.volunteerhub.backend.scheduler;
+
+import com.volunteerhub.backend.entity.EventStatus;
+import com.volunteerhub.backend.repository.EventRegistrationCountRepository;
+import com.volunteerhub.backend.repository.EventRegistrationCountRepository.ChangedView;
+import com.volunteerhub.backend.repository.EventRepository;
+import com.volunteerhub.backend.service.impl.RegistrationCounters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Repairs drift in event_registration_counts (e.g. rows changed by hand or an approximate batch count),
+// one short transaction per chunk. Two walks: events still taking registrations (pending / approved) by
+// id, and counter rows written since the last run whatever the event's status, which covers attendance
+// recorded after EventLifecycleJob completed the event. Untouched closed events are not re-read.
+@Component
+public class RegistrationCountReconcileJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrationCountReconcileJob.class);
+    private static final List<EventStatus> OPEN = List.of(EventStatus.pending, EventStatus.approved);
+
+    private final EventRepository eventRepo;
+    private final EventRegistrationCountRepository countRepo;
+    private final RegistrationCounters counters;
+    private final int batchSize;
+    private final long overlapMs;
+
+    // counter rows written after this were not reconciled yet; starts one interval before startup
+    private LocalDateTime watermark;
+
+    public RegistrationCountReconcileJob(EventRepository eventRepo,
+                                         EventRegistrationCountRepository countRepo,
+                                         RegistrationCounters counters,
+                                         @Value("${registration-counts.batchSize:200}") int batchSize,
+                                         @Value("${registration-counts.reconcileIntervalMs:900000}") long intervalMs,
+                                         @Value("${registration-counts.overlapMs:60000}") long overlapMs) {
+        this.eventRepo = eventRepo;
+        this.countRepo = countRepo;
+        this.counters = counters;
+        this.batchSize = batchSize;
+        this.overlapMs = overlapMs;
+        this.watermark = LocalDateTime.now().minusNanos(intervalMs * 1_000_000);
+    }
+
+    @Scheduled(initialDelayString = "${registration-counts.reconcileIntervalMs:900000}",
+            fixedDelayString = "${registration-counts.reconcileIntervalMs:900000}")
+    public void run() {
+        int repaired = 0;
+        for (EventStatus status : OPEN) {
+            long after = 0;
+            List<Long> ids;
+            do {
+                ids = eventRepo.findIdsByStatusAfter(status, after, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) break;
+                repaired += counters.reconcile(ids);
+                after = ids.get(ids.size() - 1);
+            } while (ids.size() == batchSize);
+        }
+        repaired += reconcileChanged();
+        if (repaired > 0) {
+            log.warn("Registration counters: repaired {} event(s)", repaired);
+        }
+    }
+
+    // re-reads a small overlap window: a writer that committed late may carry an older updated_at
+    private int reconcileChanged() {
+        LocalDateTime at = watermark.minusNanos(overlapMs * 1_000_000);
+        long after = 0;
+        int repaired = 0;
+        List<ChangedView> rows;
+        do {
+            rows = countRepo.findChangedAfter(at, after, batchSize);
+            if (rows.isEmpty()) break;
+            repaired += counters.reconcile(rows.stream().map(ChangedView::getEventId).toList());
+            ChangedView last = rows.get(rows.size() - 1);
+            at = last.getUpdatedAt();
+            after = last.getEventId();
+        } while (rows.size() == batchSize);
+        if (at.isAfter(watermark)) watermark = at;
+        return repaired;
+    }
+}
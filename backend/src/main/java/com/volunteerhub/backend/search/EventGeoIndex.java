@@ -0,0 +1,141 @@
+package com.volunteerhub.backend.search;
+
+import com.volunteerhub.backend.entity.EventEntity;
+import com.volunteerhub.backend.entity.EventStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory grid over event coordinates (0.1 degree cells, ~11 km) for "events near me".
+// A query scans only the cells covering the radius' bounding box, then filters by great-circle distance.
+// Fed like EventTextIndex: after commit from EventServiceImpl and by EventIndexSyncJob.
+@Component
+public class EventGeoIndex {
+
+    private static final double CELL_DEG = 0.1;
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final long LON_CELLS = Math.round(360 / CELL_DEG);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Set<Long>> cells = new HashMap<>();
+    private final Map<Long, Point> points = new HashMap<>();
+
+    private record Point(double lat, double lon, long cell, EventStatus status, LocalDateTime startDate) {}
+
+    public record Hit(Long id, double distanceKm) {}
+
+    public record Hits(List<Hit> hits, int total) {}
+
+    public void upsert(Long id, Double lat, Double lon, EventStatus status, LocalDateTime startDate, Boolean deleted) {
+        lock.writeLock().lock();
+        try {
+            unlink(id);
+            if (lat == null || lon == null || Boolean.TRUE.equals(deleted)) return;
+            long cell = cell(latCell(lat), lonCell(lon));
+            points.put(id, new Point(lat, lon, cell, status, startDate));
+            cells.computeIfAbsent(cell, k -> new HashSet<>()).add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void indexAfterCommit(EventEntity e) {
+        Long id = e.getId();
+        Double lat = e.getLatitude();
+        Double lon = e.getLongitude();
+        EventStatus status = e.getStatus();
+        LocalDateTime startDate = e.getStartDate();
+        Boolean deleted = e.getIsDeleted();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            upsert(id, lat, lon, status, startDate, deleted);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                upsert(id, lat, lon, status, startDate, deleted);
+            }
+        });
+    }
+
+    // events within radiusKm ordered by distance; status/from/to are optional filters on the same pass
+    public Hits nearby(double lat, double lon, double radiusKm, EventStatus status,
+                       LocalDateTime from, LocalDateTime to, int offset, int limit) {
+        double dLat = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+        double cosLat = Math.cos(Math.toRadians(lat));
+        // near the poles the box spans every longitude
+        double dLon = cosLat < 1e-6 ? 180 : Math.min(180, dLat / cosLat);
+        long minLatCell = latCell(Math.max(-90, lat - dLat));
+        long maxLatCell = latCell(Math.min(90, lat + dLat));
+        // unwrapped cell numbers; floorMod below handles boxes crossing the antimeridian
+        long minLonCell = (long) Math.floor((lon - dLon + 180) / CELL_DEG);
+        long maxLonCell = (long) Math.floor((lon + dLon + 180) / CELL_DEG);
+        long lonSpan = Math.min(LON_CELLS, maxLonCell - minLonCell + 1);
+
+        List<Hit> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (long la = minLatCell; la <= maxLatCell; la++) {
+                for (long i = 0; i < lonSpan; i++) {
+                    Set<Long> ids = cells.get(cell(la, Math.floorMod(minLonCell + i, LON_CELLS)));
+                    if (ids == null) continue;
+                    for (Long id : ids) {
+                        Point p = points.get(id);
+                        if (status != null && p.status() != status) continue;
+                        if (from != null && (p.startDate() == null || p.startDate().isBefore(from))) continue;
+                        if (to != null && (p.startDate() == null || !p.startDate().isBefore(to))) continue;
+                        double d = distanceKm(lat, lon, p.lat(), p.lon());
+                        if (d <= radiusKm) found.add(new Hit(id, d));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        found.sort((a, b) -> a.distanceKm() != b.distanceKm()
+                ? Double.compare(a.distanceKm(), b.distanceKm())
+                : Long.compare(a.id(), b.id()));
+        int fromIdx = Math.min(offset, found.size());
+        int toIdx = Math.min(fromIdx + limit, found.size());
+        return new Hits(List.copyOf(found.subList(fromIdx, toIdx)), found.size());
+    }
+
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static long latCell(double lat) {
+        return (long) Math.floor((lat + 90) / CELL_DEG);
+    }
+
+    private static long lonCell(double lon) {
+        return Math.floorMod((long) Math.floor((lon + 180) / CELL_DEG), LON_CELLS);
+    }
+
+    private static long cell(long latCell, long lonCell) {
+        return latCell * LON_CELLS + lonCell;
+    }
+
+    // caller holds the write lock
+    private void unlink(Long id) {
+        Point old = points.remove(id);
+        if (old == null) return;
+        Set<Long> ids = cells.get(old.cell());
+        if (ids == null) return;
+        ids.remove(id);
+        if (ids.isEmpty()) cells.remove(old.cell());
+    }
+}
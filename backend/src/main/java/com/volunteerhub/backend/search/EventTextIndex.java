@@ -0,0 +1,157 @@
+package com.volunteerhub.backend.search;
+
+import com.volunteerhub.backend.entity.EventEntity;
+import com.volunteerhub.backend.entity.EventStatus;
+import com.volunteerhub.backend.util.TextNormalizer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index over event name + description (accent-folded), ranked with BM25.
+// Fed by EventServiceImpl after commit and by EventTextIndexSyncJob (bootstrap + writes from other nodes).
+@Component
+public class EventTextIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // last query word also matches as a prefix ("tinh ngu" -> "nguyen"), capped expansions
+    private static final int MAX_PREFIX_TERMS = 50;
+    private static final double PREFIX_FACTOR = 0.5;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // term -> eventId -> weighted term frequency
+    private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private long totalLength;
+
+    private record Doc(Map<String, Integer> tf, int length, EventStatus status) {}
+
+    public record Hits(List<Long> ids, int total) {}
+
+    public void upsert(Long id, String name, String description, EventStatus status, Boolean deleted) {
+        if (Boolean.TRUE.equals(deleted)) {
+            remove(id);
+            return;
+        }
+        // tokenize outside the lock
+        Map<String, Integer> tf = new HashMap<>();
+        for (String t : TextNormalizer.tokens(name)) tf.merge(t, NAME_WEIGHT, Integer::sum);
+        for (String t : TextNormalizer.tokens(description)) tf.merge(t, 1, Integer::sum);
+        int length = tf.values().stream().mapToInt(Integer::intValue).sum();
+        lock.writeLock().lock();
+        try {
+            unlink(id);
+            docs.put(id, new Doc(tf, length, status));
+            totalLength += length;
+            tf.forEach((term, n) -> postings.computeIfAbsent(term, k -> new HashMap<>()).put(id, n));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            unlink(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // applies the entity state once the surrounding transaction commits (immediately if there is none)
+    public void indexAfterCommit(EventEntity e) {
+        Long id = e.getId();
+        String name = e.getName();
+        String description = e.getDescription();
+        EventStatus status = e.getStatus();
+        Boolean deleted = e.getIsDeleted();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            upsert(id, name, description, status, deleted);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                upsert(id, name, description, status, deleted);
+            }
+        });
+    }
+
+    // ranked ids for one page; status == null matches every status
+    public Hits search(String query, EventStatus status, int offset, int limit) {
+        List<String> terms = TextNormalizer.tokens(query);
+        if (terms.isEmpty()) return new Hits(List.of(), 0);
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int n = docs.size();
+            if (n == 0) return new Hits(List.of(), 0);
+            double avgLength = Math.max(1.0, (double) totalLength / n);
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+                score(term, postings.get(term), 1.0, status, n, avgLength, scores);
+                if (i == terms.size() - 1) {
+                    NavigableMap<String, Map<Long, Integer>> prefixed =
+                            postings.subMap(term, false, term + Character.MAX_VALUE, false);
+                    int expanded = 0;
+                    for (var entry : prefixed.entrySet()) {
+                        if (++expanded > MAX_PREFIX_TERMS) break;
+                        score(entry.getKey(), entry.getValue(), PREFIX_FACTOR, status, n, avgLength, scores);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        int from = Math.min(offset, ranked.size());
+        int to = Math.min(from + limit, ranked.size());
+        List<Long> ids = ranked.subList(from, to).stream().map(Map.Entry::getKey).toList();
+        return new Hits(ids, ranked.size());
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void score(String term, Map<Long, Integer> posting, double factor, EventStatus status,
+                       int n, double avgLength, Map<Long, Double> scores) {
+        if (posting == null || posting.isEmpty()) return;
+        double idf = Math.log(1 + (n - posting.size() + 0.5) / (posting.size() + 0.5));
+        for (var p : posting.entrySet()) {
+            Doc doc = docs.get(p.getKey());
+            if (status != null && doc.status() != status) continue;
+            int tf = p.getValue();
+            double norm = tf + K1 * (1 - B + B * doc.length() / avgLength);
+            scores.merge(p.getKey(), factor * idf * tf * (K1 + 1) / norm, Double::sum);
+        }
+    }
+
+    // caller holds the write lock
+    private void unlink(Long id) {
+        Doc old = docs.remove(id);
+        if (old == null) return;
+        totalLength -= old.length();
+        for (String term : old.tf().keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) continue;
+            posting.remove(id);
+            if (posting.isEmpty()) postings.remove(term);
+        }
+    }
+}
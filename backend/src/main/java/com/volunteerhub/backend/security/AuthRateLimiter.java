@@ -0,0 +1,77 @@
+package com.volunteerhub.backend.security;
+
+import com.volunteerhub.backend.exception.RateLimitExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+// Throttles the permitAll /api/auth endpoints per client IP and per normalized email.
+// Called by AuthController before any password hashing happens.
+@Component
+public class AuthRateLimiter {
+
+    private final TokenBucketRateLimiter byIp;
+    private final TokenBucketRateLimiter byEmail;
+    private final boolean trustForwardedFor;
+
+    public AuthRateLimiter(RateLimitProperties props) {
+        this.byIp = new TokenBucketRateLimiter(props.getIpCapacity(), props.getIpRefillPerMinute(),
+                props.getStripes(), props.getMaxKeys(), props.getIdleEvictMs());
+        this.byEmail = new TokenBucketRateLimiter(props.getEmailCapacity(), props.getEmailRefillPerMinute(),
+                props.getStripes(), props.getMaxKeys(), props.getIdleEvictMs());
+        this.trustForwardedFor = props.isTrustForwardedFor();
+    }
+
+    public void checkLogin(HttpServletRequest request, String email) {
+        check(byIp, clientIp(request));
+        check(byEmail, "login:" + normalizeEmail(email));
+    }
+
+    public void checkRegister(HttpServletRequest request, String email) {
+        check(byIp, clientIp(request));
+        check(byEmail, "register:" + normalizeEmail(email));
+    }
+
+    public void checkRefresh(HttpServletRequest request) {
+        check(byIp, clientIp(request));
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdle() {
+        byIp.evictIdle();
+        byEmail.evictIdle();
+    }
+
+    private static void check(TokenBucketRateLimiter limiter, String key) {
+        long waitMs = limiter.tryAcquire(key);
+        if (waitMs > 0) {
+            throw new RateLimitExceededException("Too many requests, retry later", (waitMs + 999) / 1000);
+        }
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String fwd = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(fwd)) {
+                int comma = fwd.indexOf(',');
+                return (comma >= 0 ? fwd.substring(0, comma) : fwd).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    // lower-case, trimmed, "+tag" dropped from the local part so trivial variants share a bucket
+    static String normalizeEmail(String email) {
+        if (email == null) return "";
+        String e = email.trim().toLowerCase(Locale.ROOT);
+        int at = e.indexOf('@');
+        if (at > 0) {
+            int plus = e.indexOf('+');
+            if (plus > 0 && plus < at) e = e.substring(0, plus) + e.substring(at);
+        }
+        return e;
+    }
+}
@@ -3,11 +3,14 @@ package com.volunteerhub.backend.security;
 import com.volunteerhub.backend.entity.UserEntity;
 import com.volunteerhub.backend.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class CustomUserDetailsService implements org.springframework.security.core.userdetails.UserDetailsService {
+public class CustomUserDetailsService implements org.springframework.security.core.userdetails.UserDetailsService,
+        UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -21,4 +24,14 @@ public class CustomUserDetailsService implements org.springframework.security.co
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         return new CustomUserDetails(user);
     }
+
+    // called by DaoAuthenticationProvider after a successful login when the stored hash is outdated
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails details, String newPasswordHash) {
+        UserEntity user = userRepository.findByEmail(details.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + details.getUsername()));
+        user.setPasswordHash(newPasswordHash);
+        return new CustomUserDetails(userRepository.save(user));
+    }
 }
@@ -1,11 +1,15 @@
 package com.volunteerhub.backend.security;
 
+import com.volunteerhub.backend.entity.Role;
+import com.volunteerhub.backend.entity.UserEntity;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -16,10 +20,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final UserStateCache userStateCache;
+    private final boolean statelessPrincipal;
 
-    public JwtAuthenticationFilter(JwtProvider jwtProvider, CustomUserDetailsService uds) {
+    public JwtAuthenticationFilter(JwtProvider jwtProvider,
+                                   CustomUserDetailsService uds,
+                                   UserStateCache userStateCache,
+                                   boolean statelessPrincipal) {
         this.jwtProvider = jwtProvider;
         this.userDetailsService = uds;
+        this.userStateCache = userStateCache;
+        this.statelessPrincipal = statelessPrincipal;
     }
 
     @Override
@@ -27,15 +38,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = getJwtFromRequest(request);
-        if (StringUtils.hasText(token) && jwtProvider.validateToken(token)) {
+        var verified = jwtProvider.verify(token);
+        if (verified.isPresent()) {
             try {
-                var claims = jwtProvider.getClaims(token);
+                var claims = verified.get();
                 String email = claims.get("email", String.class);
                 if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    var userDetails = userDetailsService.loadUserByUsername(email);
-                    var auth = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(auth);
+                    var userDetails = statelessPrincipal
+                            ? principalFromClaims(claims, email)
+                            : userDetailsService.loadUserByUsername(email);
+                    // locked or deleted accounts keep their token but lose authentication
+                    if (userDetails.isEnabled() && userDetails.isAccountNonLocked()) {
+                        var auth = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        SecurityContextHolder.getContext().setAuthentication(auth);
+                    }
                 }
             } catch (Exception ex) {
                 // token invalid -> continue without auth
@@ -44,6 +61,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // id, email and role come from the signed token; only lock/delete state is looked up (cached)
+    private UserDetails principalFromClaims(Claims claims, String email) {
+        Long userId = Long.valueOf(claims.getSubject());
+        UserState state = userStateCache.get(userId);
+        UserEntity user = new UserEntity();
+        user.setId(userId);
+        user.setEmail(email);
+        user.setRole(Role.valueOf(claims.get("role", String.class)));
+        user.setStatus(state.getStatus());
+        user.setIsDeleted(state.getDeleted());
+        return new CustomUserDetails(user);
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearer = request.getHeader("Authorization");
         if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
@@ -9,6 +9,10 @@ public class JwtProperties {
     private String secret;
     private long expirationMs = 3600000L; // 1h default
     private long refreshExpirationMs = 1209600000L; // 14 days default
+    private boolean statelessPrincipal = true; // build principal from token claims, no users lookup
+    private long userStateTtlMs = 30000L; // how long a lock/delete may go unnoticed
+    private int userStateCacheSize = 10000;
+    private int verifiedCacheSize = 10000; // recently verified tokens kept in JwtProvider
 
     public String getSecret() { return secret; }
     public void setSecret(String secret) { this.secret = secret; }
@@ -18,4 +22,16 @@ public class JwtProperties {
 
     public long getRefreshExpirationMs() { return refreshExpirationMs; }
     public void setRefreshExpirationMs(long refreshExpirationMs) { this.refreshExpirationMs = refreshExpirationMs; }
+
+    public boolean isStatelessPrincipal() { return statelessPrincipal; }
+    public void setStatelessPrincipal(boolean statelessPrincipal) { this.statelessPrincipal = statelessPrincipal; }
+
+    public long getUserStateTtlMs() { return userStateTtlMs; }
+    public void setUserStateTtlMs(long userStateTtlMs) { this.userStateTtlMs = userStateTtlMs; }
+
+    public int getUserStateCacheSize() { return userStateCacheSize; }
+    public void setUserStateCacheSize(int userStateCacheSize) { this.userStateCacheSize = userStateCacheSize; }
+
+    public int getVerifiedCacheSize() { return verifiedCacheSize; }
+    public void setVerifiedCacheSize(int verifiedCacheSize) { this.verifiedCacheSize = verifiedCacheSize; }
 }
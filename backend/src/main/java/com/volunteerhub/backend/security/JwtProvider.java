@@ -1,17 +1,28 @@
 package com.volunteerhub.backend.security;
 
+import com.volunteerhub.backend.util.TokenUtils;
+import com.volunteerhub.backend.util.TtlCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtProvider {
 
     private final JwtProperties properties;
     private final Key key;
+    // built once; jjwt parsers are immutable and thread-safe
+    private final JwtParser parser;
+    // sha-256 of token -> claims, each entry dropped at the token's exp
+    private final TtlCache<String, Claims> verified;
 
     public JwtProvider(JwtProperties properties) {
         this.properties = properties;
@@ -21,6 +32,8 @@ public class JwtProvider {
             secret = "change_this_to_a_very_long_random_secret_key_for_dev_only";
         }
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verified = new TtlCache<>(properties.getVerifiedCacheSize(), properties.getExpirationMs());
     }
 
     public String generateAccessToken(Long userId, String email, String role) {
@@ -51,23 +64,55 @@ public class JwtProvider {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    // Parses and checks the signature once; empty when the token is malformed, forged or expired.
+    public Optional<Claims> verify(String token) {
+        if (token == null || token.isEmpty()) return Optional.empty();
+        String digest = TokenUtils.sha256Hex(token);
+        Claims claims = verified.get(digest);
+        if (claims != null) {
+            // entries are capped at exp, but re-check so a cached token never outlives it
+            if (claims.getExpiration() == null || claims.getExpiration().getTime() > System.currentTimeMillis()) {
+                return Optional.of(claims);
+            }
+            verified.invalidate(digest);
+            return Optional.empty();
+        }
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+        if (claims.getExpiration() != null) {
+            verified.put(digest, claims, claims.getExpiration().getTime());
+        } else {
+            verified.put(digest, claims);
+        }
+        return Optional.of(claims);
+    }
+
+    // Sub-key for another signed artifact (e.g. check-in QR codes): HMAC(secret, purpose),
+    // so those signatures can never be replayed as JWTs or across purposes.
+    public byte[] deriveKey(String purpose) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException ex) {
-            return false;
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key.getEncoded(), "HmacSHA256"));
+            return mac.doFinal(purpose.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 not available", ex);
         }
     }
 
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
     public Claims getClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return verify(token).orElseThrow(() -> new JwtException("Invalid token"));
     }
 
     public boolean isRefreshToken(String token) {
-        if (!validateToken(token)) return false;
-        var claims = getClaims(token);
-        String typ = claims.get("typ", String.class);
-        return "refresh".equalsIgnoreCase(typ);
+        return verify(token)
+                .map(claims -> "refresh".equalsIgnoreCase(claims.get("typ", String.class)))
+                .orElse(false);
     }
 }
@@ -0,0 +1,89 @@
+package com.volunteerhub.backend.security;
+
+import com.volunteerhub.backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Runs password hashing (login, register) on a small fixed pool so a login storm
+// cannot pin every Tomcat thread on BCrypt; a full queue fails fast with 503.
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMs;
+    private final int retryAfterSeconds;
+    private final Timer hashTimer;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(PasswordProperties properties, MeterRegistry registry) {
+        int threads = properties.getHashThreads() > 0
+                ? properties.getHashThreads()
+                : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.waitTimeoutMs = properties.getWaitTimeoutMs();
+        this.retryAfterSeconds = properties.getRetryAfterSeconds();
+
+        this.hashTimer = Timer.builder("auth.password.hash")
+                .description("Time spent hashing/verifying passwords")
+                .register(registry);
+        this.rejected = Counter.builder("auth.password.rejected")
+                .description("Hash jobs refused because the queue was full or the wait timed out")
+                .register(registry);
+        Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size())
+                .description("Hash jobs waiting for a thread")
+                .register(registry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+    }
+
+    public <T> T run(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.record(task));
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new ServiceBusyException("Authentication service busy, retry shortly", retryAfterSeconds);
+        }
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceBusyException("Authentication service busy, retry shortly", retryAfterSeconds);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceBusyException("Authentication interrupted", retryAfterSeconds);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,33 @@
+package com.volunteerhub.backend.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordProperties {
+    private String algorithm = "bcrypt"; // bcrypt | pbkdf2, used for new hashes and rehash on login
+    private int bcryptStrength = 12;
+    private int hashThreads = 0; // 0 -> number of CPUs
+    private int queueCapacity = 64; // waiting hash jobs before logins get 503
+    private long waitTimeoutMs = 5000L;
+    private int retryAfterSeconds = 2;
+
+    public String getAlgorithm() { return algorithm; }
+    public void setAlgorithm(String algorithm) { this.algorithm = algorithm; }
+
+    public int getBcryptStrength() { return bcryptStrength; }
+    public void setBcryptStrength(int bcryptStrength) { this.bcryptStrength = bcryptStrength; }
+
+    public int getHashThreads() { return hashThreads; }
+    public void setHashThreads(int hashThreads) { this.hashThreads = hashThreads; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    public long getWaitTimeoutMs() { return waitTimeoutMs; }
+    public void setWaitTimeoutMs(long waitTimeoutMs) { this.waitTimeoutMs = waitTimeoutMs; }
+
+    public int getRetryAfterSeconds() { return retryAfterSeconds; }
+    public void setRetryAfterSeconds(int retryAfterSeconds) { this.retryAfterSeconds = retryAfterSeconds; }
+}
@@ -0,0 +1,41 @@
+package com.volunteerhub.backend.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "rate-limit.auth")
+public class RateLimitProperties {
+    private int ipCapacity = 30; // burst per client IP across login/register/refresh
+    private int ipRefillPerMinute = 30;
+    private int emailCapacity = 5; // burst per normalized email (login/register)
+    private int emailRefillPerMinute = 5;
+    private int stripes = 64;
+    private int maxKeys = 100000; // per limiter; least recently used buckets go first
+    private long idleEvictMs = 600000L; // buckets untouched this long are dropped
+    private boolean trustForwardedFor = false; // only behind a proxy that sets X-Forwarded-For
+
+    public int getIpCapacity() { return ipCapacity; }
+    public void setIpCapacity(int ipCapacity) { this.ipCapacity = ipCapacity; }
+
+    public int getIpRefillPerMinute() { return ipRefillPerMinute; }
+    public void setIpRefillPerMinute(int ipRefillPerMinute) { this.ipRefillPerMinute = ipRefillPerMinute; }
+
+    public int getEmailCapacity() { return emailCapacity; }
+    public void setEmailCapacity(int emailCapacity) { this.emailCapacity = emailCapacity; }
+
+    public int getEmailRefillPerMinute() { return emailRefillPerMinute; }
+    public void setEmailRefillPerMinute(int emailRefillPerMinute) { this.emailRefillPerMinute = emailRefillPerMinute; }
+
+    public int getStripes() { return stripes; }
+    public void setStripes(int stripes) { this.stripes = stripes; }
+
+    public int getMaxKeys() { return maxKeys; }
+    public void setMaxKeys(int maxKeys) { this.maxKeys = maxKeys; }
+
+    public long getIdleEvictMs() { return idleEvictMs; }
+    public void setIdleEvictMs(long idleEvictMs) { this.idleEvictMs = idleEvictMs; }
+
+    public boolean isTrustForwardedFor() { return trustForwardedFor; }
+    public void setTrustForwardedFor(boolean trustForwardedFor) { this.trustForwardedFor = trustForwardedFor; }
+}
@@ -0,0 +1,25 @@
+package com.volunteerhub.backend.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "refresh-token")
+public class RefreshTokenProperties {
+    private long purgeIntervalMs = 3600000L; // 1h between purge runs
+    private int purgeBatchSize = 1000; // rows per DELETE, keeps each lock short
+    private long purgePauseMs = 50L; // breathing room between chunks
+    private int revokedIndexMaxEntries = 200000;
+
+    public long getPurgeIntervalMs() { return purgeIntervalMs; }
+    public void setPurgeIntervalMs(long purgeIntervalMs) { this.purgeIntervalMs = purgeIntervalMs; }
+
+    public int getPurgeBatchSize() { return purgeBatchSize; }
+    public void setPurgeBatchSize(int purgeBatchSize) { this.purgeBatchSize = purgeBatchSize; }
+
+    public long getPurgePauseMs() { return purgePauseMs; }
+    public void setPurgePauseMs(long purgePauseMs) { this.purgePauseMs = purgePauseMs; }
+
+    public int getRevokedIndexMaxEntries() { return revokedIndexMaxEntries; }
+    public void setRevokedIndexMaxEntries(int revokedIndexMaxEntries) { this.revokedIndexMaxEntries = revokedIndexMaxEntries; }
+}
@@ -0,0 +1,51 @@
+package com.volunteerhub.backend.security;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory set of revoked refresh token hashes so replays are rejected without a DB query.
+// Keys are the first 64 bits of the SHA-256 hash; an entry lives until the token would expire.
+// Only a fast path: a miss (other node, restart, index full) falls through to refresh_tokens.
+@Component
+public class RevokedTokenIndex {
+
+    private final ConcurrentHashMap<Long, Long> revoked = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public RevokedTokenIndex(RefreshTokenProperties properties) {
+        this.maxEntries = properties.getRevokedIndexMaxEntries();
+    }
+
+    public void add(String tokenHash, LocalDateTime expiresAt) {
+        if (tokenHash == null || tokenHash.length() < 16) return;
+        if (revoked.size() >= maxEntries && purgeExpired() == 0) return;
+        long expiresAtMs = expiresAt != null
+                ? expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : Long.MAX_VALUE;
+        revoked.put(key(tokenHash), expiresAtMs);
+    }
+
+    public boolean isRevoked(String tokenHash) {
+        if (tokenHash == null || tokenHash.length() < 16) return false;
+        Long expiresAtMs = revoked.get(key(tokenHash));
+        return expiresAtMs != null && expiresAtMs > System.currentTimeMillis();
+    }
+
+    public int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revoked.size();
+        revoked.values().removeIf(exp -> exp <= now);
+        return Math.max(0, before - revoked.size());
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    private static long key(String tokenHash) {
+        return Long.parseUnsignedLong(tokenHash.substring(0, 16), 16);
+    }
+}
@@ -0,0 +1,82 @@
+package com.volunteerhub.backend.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Token buckets keyed by string, split over lock stripes so unrelated keys do not contend.
+// Each stripe is an access-ordered map capped at maxKeys / stripes, so memory stays bounded
+// even under a flood of distinct keys; idle buckets are also swept by evictIdle().
+public class TokenBucketRateLimiter {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long idleEvictNanos;
+    private final Stripe[] stripes;
+
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute, int stripeCount, int maxKeys, long idleEvictMs) {
+        this.capacity = capacity;
+        this.tokensPerNano = Math.max(1, refillPerMinute) / 60_000_000_000d;
+        this.idleEvictNanos = idleEvictMs * 1_000_000L;
+        int perStripe = Math.max(1, (maxKeys + stripeCount - 1) / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) stripes[i] = new Stripe(perStripe);
+    }
+
+    // 0 when a token was taken, otherwise the number of millis until one is available
+    public long tryAcquire(String key) {
+        Stripe stripe = stripes[Math.floorMod(key.hashCode(), stripes.length)];
+        long now = System.nanoTime();
+        synchronized (stripe) {
+            Bucket b = stripe.buckets.get(key);
+            if (b == null) {
+                b = new Bucket(capacity, now);
+                stripe.buckets.put(key, b);
+            } else {
+                b.tokens = Math.min(capacity, b.tokens + (now - b.lastNanos) * tokensPerNano);
+                b.lastNanos = now;
+            }
+            if (b.tokens >= 1d) {
+                b.tokens -= 1d;
+                return 0L;
+            }
+            double missing = 1d - b.tokens;
+            return Math.max(1L, (long) Math.ceil(missing / tokensPerNano / 1_000_000d));
+        }
+    }
+
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                int before = stripe.buckets.size();
+                stripe.buckets.values().removeIf(b -> now - b.lastNanos > idleEvictNanos);
+                removed += before - stripe.buckets.size();
+            }
+        }
+        return removed;
+    }
+
+    private static final class Bucket {
+        double tokens;
+        long lastNanos;
+
+        Bucket(double tokens, long lastNanos) {
+            this.tokens = tokens;
+            this.lastNanos = lastNanos;
+        }
+    }
+
+    private static final class Stripe {
+        final LinkedHashMap<String, Bucket> buckets;
+
+        Stripe(int maxKeys) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.volunteerhub.backend.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Lock/delete flags of a user, the only account state the stateless principal needs.
+@Getter
+@AllArgsConstructor
+public class UserState {
+
+    // user row no longer exists -> treat as deleted
+    public static final UserState MISSING = new UserState("active", true);
+
+    private final String status;
+    private final Boolean deleted;
+}
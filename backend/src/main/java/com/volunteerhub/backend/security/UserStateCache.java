@@ -0,0 +1,31 @@
+package com.volunteerhub.backend.security;
+
+import com.volunteerhub.backend.repository.UserRepository;
+import com.volunteerhub.backend.util.TtlCache;
+import org.springframework.stereotype.Component;
+
+// Short-lived cache of user lock/delete state so JWT requests skip the users lookup.
+@Component
+public class UserStateCache {
+
+    private final UserRepository userRepository;
+    private final TtlCache<Long, UserState> cache;
+
+    public UserStateCache(UserRepository userRepository, JwtProperties properties) {
+        this.userRepository = userRepository;
+        this.cache = new TtlCache<>(properties.getUserStateCacheSize(), properties.getUserStateTtlMs());
+    }
+
+    public UserState get(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    // call after locking/deleting a user so the change applies before the ttl runs out
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    private UserState load(Long userId) {
+        return userRepository.findStateById(userId).orElse(UserState.MISSING);
+    }
+}
@@ -10,4 +10,5 @@ public interface IAuthService {
     AuthResponse login(LoginRequest req);
     AuthResponse refresh(String refreshToken);
     void logout(String refreshToken);
+    UserEntity getProfile(Long userId);
 }
@@ -0,0 +1,12 @@
+package com.volunteerhub.backend.service;
+
+import com.volunteerhub.backend.dto.CheckInResponse;
+import com.volunteerhub.backend.dto.CheckInTokenResponse;
+import org.springframework.security.core.Authentication;
+
+public interface ICheckInService {
+    CheckInTokenResponse issueToken(Long eventId, Long registrationId, Authentication auth);
+    CheckInResponse checkIn(Long eventId, String token, Authentication auth);
+    // writes queued scans; returns rows written
+    int flush();
+}
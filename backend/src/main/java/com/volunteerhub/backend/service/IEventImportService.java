@@ -0,0 +1,11 @@
+package com.volunteerhub.backend.service;
+
+import com.volunteerhub.backend.dto.EventImportReport;
+import org.springframework.security.core.Authentication;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface IEventImportService {
+    EventImportReport importEvents(InputStream in, String filename, String contentType, Authentication auth) throws IOException;
+}
@@ -0,0 +1,8 @@
+package com.volunteerhub.backend.service;
+
+import java.time.LocalDateTime;
+
+public interface IEventLifecycleService {
+    int closeRegistrationBatch(LocalDateTime now, int limit);
+    int completeBatch(LocalDateTime now, int limit);
+}
@@ -0,0 +1,15 @@
+package com.volunteerhub.backend.service;
+
+import com.volunteerhub.backend.dto.BulkModerationResponse;
+import com.volunteerhub.backend.dto.EventSummaryResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+
+public interface IEventModerationService {
+    Page<EventSummaryResponse> pendingQueue(Pageable pageable);
+    BulkModerationResponse approve(List<Long> ids, Authentication auth);
+    BulkModerationResponse reject(List<Long> ids, String reason, Authentication auth);
+}
@@ -1,7 +1,11 @@
 package com.volunteerhub.backend.service;
 
+import com.volunteerhub.backend.dto.CursorPage;
 import com.volunteerhub.backend.dto.EventCreateRequest;
 import com.volunteerhub.backend.dto.EventResponse;
+import com.volunteerhub.backend.dto.EventSearchFilter;
+import com.volunteerhub.backend.dto.EventSummaryResponse;
+import com.volunteerhub.backend.dto.NearbyEventResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -11,7 +15,13 @@ import java.util.Optional;
 public interface IEventService {
     EventResponse createEvent(EventCreateRequest req, Authentication auth);
     Page<EventResponse> listEvents(Optional<String> statusOpt, Pageable pageable);
+    CursorPage<EventResponse> listEventsByCursor(Optional<String> statusOpt, String cursor, int size);
+    Page<EventSummaryResponse> searchEvents(EventSearchFilter filter, Pageable pageable);
+    Page<EventSummaryResponse> searchEventsByText(String q, Optional<String> statusOpt, Pageable pageable);
+    Page<NearbyEventResponse> nearbyEvents(double lat, double lon, double radiusKm, EventSearchFilter filter, Pageable pageable);
     EventResponse getEvent(Long id);
+    EventResponse getEventBySlug(String slug);
     EventResponse updateEvent(Long id, EventCreateRequest req, Authentication auth);
     EventResponse approveEvent(Long id, Authentication auth);
+    EventResponse setHighDemand(Long id, boolean enabled, Authentication auth);
 }
@@ -15,7 +15,9 @@ public interface IPostService {
     PostResponse createPost(Long eventId, PostCreateRequest req, Authentication auth);
     Page<PostResponse> listPosts(Long eventId, Pageable pageable);
     CommentResponse addComment(Long postId, CommentCreateRequest req, Authentication auth);
+    String listPostsETag(Long eventId, Pageable pageable);
     List<CommentResponse> listComments(Long postId);
+    String listCommentsETag(Long postId);
     void likePost(Long postId, Authentication auth);
     void unlikePost(Long postId, Authentication auth);
     List<PostLikeResponse> listLikes(Long postId);
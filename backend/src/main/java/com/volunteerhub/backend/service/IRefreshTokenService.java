@@ -4,6 +4,7 @@ import com.volunteerhub.backend.entity.RefreshTokenEntity;
 import com.volunteerhub.backend.entity.UserEntity;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 
 public interface IRefreshTokenService {
@@ -12,4 +13,10 @@ public interface IRefreshTokenService {
     void revokeToken(RefreshTokenEntity tokenEntity);
     void revokeAllForUser(UserEntity user);
     void deleteAllForUser(UserEntity user);
+    int revokeAllForUsers(Collection<Long> userIds);
+    int deleteAllForUsers(Collection<Long> userIds);
+    boolean isRevoked(String token);
+    int purgeExpired(LocalDateTime cutoff, int batchSize);
+    int purgeRevoked(int batchSize);
+    int pruneRevokedIndex();
 }
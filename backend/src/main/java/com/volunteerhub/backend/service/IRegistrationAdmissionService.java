@@ -0,0 +1,13 @@
+package com.volunteerhub.backend.service;
+
+import com.volunteerhub.backend.dto.RegistrationCreateRequest;
+import com.volunteerhub.backend.dto.RegistrationTicket;
+import org.springframework.security.core.Authentication;
+
+import java.util.Optional;
+
+public interface IRegistrationAdmissionService {
+    // empty when the event is not in high-demand mode -> caller registers synchronously
+    Optional<RegistrationTicket> tryAdmit(Long eventId, RegistrationCreateRequest req, Authentication auth);
+    RegistrationTicket getTicket(String ticketId, Authentication auth);
+}
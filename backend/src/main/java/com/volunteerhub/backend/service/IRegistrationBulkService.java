@@ -0,0 +1,16 @@
+package com.volunteerhub.backend.service;
+
+import com.volunteerhub.backend.dto.BulkCompletionRequest;
+import com.volunteerhub.backend.dto.BulkRegistrationResponse;
+import org.springframework.security.core.Authentication;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public interface IRegistrationBulkService {
+    BulkRegistrationResponse approve(Long eventId, List<Long> ids, Authentication auth);
+    BulkRegistrationResponse reject(Long eventId, List<Long> ids, Authentication auth);
+    BulkRegistrationResponse complete(Long eventId, List<BulkCompletionRequest.Entry> entries, Authentication auth);
+    BulkRegistrationResponse completeFromCsv(Long eventId, InputStream in, Authentication auth) throws IOException;
+}
@@ -1,16 +1,25 @@
 package com.volunteerhub.backend.service;
 
+import com.volunteerhub.backend.dto.CursorPage;
+import com.volunteerhub.backend.dto.ParticipationEntry;
+import com.volunteerhub.backend.dto.ParticipationFilter;
+import com.volunteerhub.backend.dto.RegistrationCounts;
 import com.volunteerhub.backend.dto.RegistrationCreateRequest;
 import com.volunteerhub.backend.dto.RegistrationResponse;
+import com.volunteerhub.backend.dto.RosterPage;
 import org.springframework.security.core.Authentication;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface IRegistrationService {
     RegistrationResponse register(Long eventId, RegistrationCreateRequest req, Authentication auth);
     RegistrationResponse cancel(Long eventId, Long registrationId, Authentication auth);
     List<RegistrationResponse> listForEvent(Long eventId, Authentication auth);
+    RegistrationCounts counts(Long eventId, Authentication auth);
+    RosterPage roster(Long eventId, Optional<String> statusOpt, String cursor, int size, Authentication auth);
     List<RegistrationResponse> listForVolunteer(Authentication auth);
+    CursorPage<ParticipationEntry> history(ParticipationFilter filter, String cursor, int size, Authentication auth);
     RegistrationResponse approve(Long eventId, Long registrationId, Authentication auth);
     RegistrationResponse reject(Long eventId, Long registrationId, Authentication auth);
     RegistrationResponse markCompleted(Long eventId, Long registrationId, boolean present, String completionNote, Authentication auth);
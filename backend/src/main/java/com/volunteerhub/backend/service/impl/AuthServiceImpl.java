@@ -8,7 +8,9 @@ import com.volunteerhub.backend.dto.RegisterRequest;
 import com.volunteerhub.backend.entity.UserEntity;
 import com.volunteerhub.backend.entity.Role;
 import com.volunteerhub.backend.repository.UserRepository;
+import com.volunteerhub.backend.security.CustomUserDetails;
 import com.volunteerhub.backend.security.JwtProvider;
+import com.volunteerhub.backend.security.PasswordHashingExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -27,42 +29,45 @@ public class AuthServiceImpl implements IAuthService {
     private final JwtProvider jwtProvider;
     private final AuthenticationManager authenticationManager;
     private final IRefreshTokenService refreshTokenService;
+    private final PasswordHashingExecutor hashingExecutor;
 
     public AuthServiceImpl(UserRepository userRepository,
                            PasswordEncoder passwordEncoder,
                            JwtProvider jwtProvider,
                            AuthenticationManager authenticationManager,
-                           IRefreshTokenService refreshTokenService) {
+                           IRefreshTokenService refreshTokenService,
+                           PasswordHashingExecutor hashingExecutor) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtProvider = jwtProvider;
         this.authenticationManager = authenticationManager;
         this.refreshTokenService = refreshTokenService;
+        this.hashingExecutor = hashingExecutor;
     }
 
+    // Not @Transactional: hashing must not hold a pooled connection while it waits for the
+    // hashing executor. The unique email index still rejects a concurrent duplicate.
     @Override
-    @Transactional
     public UserEntity register(RegisterRequest req) {
         if (userRepository.existsByEmail(req.getEmail())) {
             throw new IllegalArgumentException("Email already in use");
         }
         UserEntity u = new UserEntity();
         u.setEmail(req.getEmail().toLowerCase().trim());
-        u.setPasswordHash(passwordEncoder.encode(req.getPassword()));
+        u.setPasswordHash(hashingExecutor.run(() -> passwordEncoder.encode(req.getPassword())));
         u.setFullName(req.getFullName());
         u.setPhone(req.getPhone());
         u.setRole(Role.volunteer); // default
         return userRepository.save(u);
     }
 
+    // Not @Transactional for the same reason as register; the refresh token insert has its own tx.
     @Override
-    @Transactional
     public AuthResponse login(LoginRequest req) {
         var token = new UsernamePasswordAuthenticationToken(req.getEmail(), req.getPassword());
-        authenticationManager.authenticate(token);
+        var authentication = hashingExecutor.run(() -> authenticationManager.authenticate(token));
 
-        var user = userRepository.findByEmail(req.getEmail())
-                .orElseThrow(() -> new IllegalArgumentException("User not found after auth"));
+        var user = ((CustomUserDetails) authentication.getPrincipal()).getUserEntity();
 
         String access = jwtProvider.generateAccessToken(user.getId(), user.getEmail(), user.getRole().name());
         String refresh = jwtProvider.generateRefreshToken(user.getId(), user.getEmail(), user.getRole().name());
@@ -77,9 +82,12 @@ public class AuthServiceImpl implements IAuthService {
     @Override
     @Transactional
     public AuthResponse refresh(String refreshToken) {
-        if (!jwtProvider.validateToken(refreshToken) || !jwtProvider.isRefreshToken(refreshToken)) {
-            throw new IllegalArgumentException("Invalid refresh token");
-        }
+        var claims = jwtProvider.verify(refreshToken)
+                .filter(c -> "refresh".equalsIgnoreCase(c.get("typ", String.class)))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+
+        // replayed/revoked tokens are usually rejected here without touching refresh_tokens
+        if (refreshTokenService.isRevoked(refreshToken)) throw new IllegalArgumentException("Refresh token revoked");
 
         var tokenEntityOpt = refreshTokenService.findByToken(refreshToken);
         if (tokenEntityOpt.isEmpty()) throw new IllegalArgumentException("Refresh token not found");
@@ -90,7 +98,6 @@ public class AuthServiceImpl implements IAuthService {
             throw new IllegalArgumentException("Refresh token expired");
         }
 
-        var claims = jwtProvider.getClaims(refreshToken);
         Long userId = Long.valueOf(claims.getSubject());
         var user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("User not found"));
 
@@ -111,4 +118,9 @@ public class AuthServiceImpl implements IAuthService {
         var tokenEntityOpt = refreshTokenService.findByToken(refreshToken);
         tokenEntityOpt.ifPresent(refreshTokenService::revokeToken);
     }
+
+    @Override
+    public UserEntity getProfile(Long userId) {
+        return userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("User not found"));
+    }
 }
@@ -0,0 +1,231 @@
+package com.volunteerhub.backend.service.impl;
+
+import com.volunteerhub.backend.dto.CheckInResponse;
+import com.volunteerhub.backend.dto.CheckInTokenResponse;
+import com.volunteerhub.backend.dto.EventResponse;
+import com.volunteerhub.backend.entity.EventEntity;
+import com.volunteerhub.backend.entity.RegistrationEntity;
+import com.volunteerhub.backend.exception.ServiceBusyException;
+import com.volunteerhub.backend.repository.RegistrationRepository;
+import com.volunteerhub.backend.security.CheckInTokenCodec;
+import com.volunteerhub.backend.security.CustomUserDetails;
+import com.volunteerhub.backend.service.ICheckInService;
+import com.volunteerhub.backend.service.IEventService;
+import com.volunteerhub.backend.util.TtlCache;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Event-day check-in: the scan path verifies the QR token with the HMAC key, checks the organizer
+// against the cached event and dedupes in memory; attendance is written by flush() in JDBC batches.
+@Service
+public class CheckInServiceImpl implements ICheckInService {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckInServiceImpl.class);
+
+    private final RegistrationRepository regRepo;
+    private final IEventService eventService;
+    private final CheckInTokenCodec codec;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final RegistrationCounters counters;
+    private final int batchSize;
+    private final int maxPending;
+    private final long graceSeconds;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long maxBackoffMs;
+
+    // registration ids already scanned on this node
+    private final TtlCache<Long, Boolean> scanned;
+    private final ConcurrentLinkedQueue<Scan> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    // batches failed in a row; flush() backs off until retryAt, scans are refused once maxAttempts is reached
+    private final AtomicInteger failures = new AtomicInteger();
+    private volatile long retryAt;
+
+    private record Scan(Long registrationId, Long eventId, int attempts) {}
+
+    public CheckInServiceImpl(RegistrationRepository regRepo,
+                              IEventService eventService,
+                              CheckInTokenCodec codec,
+                              JdbcTemplate jdbc,
+                              TransactionTemplate tx,
+                              RegistrationCounters counters,
+                              @Value("${check-in.batchSize:500}") int batchSize,
+                              @Value("${check-in.maxPending:100000}") int maxPending,
+                              @Value("${check-in.dedupeSize:200000}") int dedupeSize,
+                              @Value("${check-in.dedupeTtlMs:86400000}") long dedupeTtlMs,
+                              @Value("${check-in.tokenGraceHours:12}") long tokenGraceHours,
+                              @Value("${check-in.maxAttempts:5}") int maxAttempts,
+                              @Value("${check-in.retryBackoffMs:1000}") long retryBackoffMs,
+                              @Value("${check-in.maxBackoffMs:30000}") long maxBackoffMs) {
+        this.regRepo = regRepo;
+        this.eventService = eventService;
+        this.codec = codec;
+        this.jdbc = jdbc;
+        this.tx = tx;
+        this.counters = counters;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.graceSeconds = tokenGraceHours * 3600;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.scanned = new TtlCache<>(dedupeSize, dedupeTtlMs);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CheckInTokenResponse issueToken(Long eventId, Long registrationId, Authentication auth) {
+        Long userId = currentUserId(auth);
+        RegistrationEntity reg = regRepo.findById(registrationId)
+                .orElseThrow(() -> new IllegalArgumentException("Registration not found"));
+        EventEntity event = reg.getEvent();
+        if (!event.getId().equals(eventId)) throw new IllegalArgumentException("Registration not found");
+        if (!reg.getVolunteer().getId().equals(userId)) {
+            throw new SecurityException("Not allowed to access this registration");
+        }
+        if (reg.getStatus() != RegistrationEntity.RegistrationStatus.approved) {
+            throw new IllegalArgumentException("Only approved registrations can check in");
+        }
+        // valid until the event is over (plus grace for late scans)
+        LocalDateTime end = event.getEndDate() != null ? event.getEndDate() : event.getStartDate().plusDays(1);
+        LocalDateTime expiresAt = end.plusSeconds(graceSeconds);
+        if (!expiresAt.isAfter(LocalDateTime.now())) throw new IllegalArgumentException("Event is over");
+        String token = codec.issue(registrationId, eventId, expiresAt.atZone(ZoneId.systemDefault()).toEpochSecond());
+        return new CheckInTokenResponse(registrationId, eventId, token, expiresAt);
+    }
+
+    @Override
+    public CheckInResponse checkIn(Long eventId, String token, Authentication auth) {
+        CheckInTokenCodec.Claim claim = codec.verify(token)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid check-in token"));
+        if (!claim.eventId().equals(eventId)) throw new IllegalArgumentException("Token is for another event");
+        checkOrganizer(eventId, auth);
+
+        Long regId = claim.registrationId();
+        synchronized (scanned) {
+            if (scanned.get(regId) != null) return new CheckInResponse(regId, eventId, "already_checked_in");
+            if (pendingCount.get() >= maxPending) {
+                throw new ServiceBusyException("Check-in backlog is full, please retry", 1);
+            }
+            // the writer keeps failing on a backlog: refuse rather than report a check-in that may never be stored
+            if (failures.get() >= maxAttempts && pendingCount.get() > 0) {
+                throw new ServiceBusyException("Check-in storage is unavailable, please retry",
+                        Math.max(1, (int) (maxBackoffMs / 1000)));
+            }
+            scanned.put(regId, Boolean.TRUE);
+        }
+        pending.add(new Scan(regId, eventId, 0));
+        pendingCount.incrementAndGet();
+        return new CheckInResponse(regId, eventId, "checked_in");
+    }
+
+    // status guard: a registration cancelled after its token was issued is not marked present
+    @Override
+    public int flush() {
+        if (System.currentTimeMillis() < retryAt) return 0;
+        int written = 0;
+        List<Scan> batch = new ArrayList<>(batchSize);
+        Scan s;
+        while (true) {
+            while (batch.size() < batchSize && (s = pending.poll()) != null) batch.add(s);
+            if (batch.isEmpty()) return written;
+            pendingCount.addAndGet(-batch.size());
+            List<Object[]> args = new ArrayList<>(batch.size());
+            for (Scan b : batch) args.add(new Object[]{b.registrationId(), b.eventId()});
+            try {
+                // rows already present (other node, manual completion) report 0 and are not counted twice
+                tx.executeWithoutResult(status -> {
+                    int[] updated = jdbc.batchUpdate("UPDATE registrations SET attendance_status = 'present' " +
+                            "WHERE id = ? AND event_id = ? AND status IN ('approved', 'completed') " +
+                            "AND (attendance_status IS NULL OR attendance_status <> 'present')", args);
+                    Map<Long, Integer> presentByEvent = new HashMap<>();
+                    for (int i = 0; i < updated.length; i++) {
+                        // SUCCESS_NO_INFO (-2): the driver did not report the row count
+                        int n = updated[i] == Statement.SUCCESS_NO_INFO ? 1 : updated[i];
+                        if (n > 0) presentByEvent.merge(batch.get(i).eventId(), n, Integer::sum);
+                    }
+                    presentByEvent.forEach((eventId, n) -> counters.apply(eventId, RegistrationCounters.delta().present(n)));
+                });
+                written += batch.size();
+                failures.set(0);
+            } catch (DataAccessException | TransactionException ex) {
+                int failed = failures.incrementAndGet();
+                long backoff = Math.min(maxBackoffMs, retryBackoffMs << Math.min(failed - 1, 20));
+                retryAt = System.currentTimeMillis() + backoff;
+                log.warn("Check-in batch of {} failed (attempt {}), retrying in {} ms: {}",
+                        batch.size(), failed, backoff, ex.getMessage());
+                requeue(batch);
+                return written;
+            }
+            batch.clear();
+        }
+    }
+
+    // puts a failed batch back on pending; scans out of attempts are dropped and logged so they can be re-entered
+    private void requeue(List<Scan> batch) {
+        List<Long> dropped = new ArrayList<>();
+        for (Scan b : batch) {
+            if (b.attempts() + 1 < maxAttempts) {
+                pending.add(new Scan(b.registrationId(), b.eventId(), b.attempts() + 1));
+                pendingCount.incrementAndGet();
+            } else {
+                // forget the scan so the next scan of this code is queued again
+                scanned.invalidate(b.registrationId());
+                dropped.add(b.registrationId());
+            }
+        }
+        if (!dropped.isEmpty()) {
+            log.error("Check-in dropped after {} attempts, registrations {}", maxAttempts, dropped);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        retryAt = 0;
+        flush();
+        if (pendingCount.get() > 0) {
+            log.error("Check-in shutdown with {} unwritten scan(s)", pendingCount.get());
+        }
+    }
+
+    private void checkOrganizer(Long eventId, Authentication auth) {
+        if (auth == null || !(auth.getPrincipal() instanceof CustomUserDetails cud)) {
+            throw new IllegalArgumentException("Authentication required");
+        }
+        // cached detail view: no DB read per scan
+        EventResponse event = eventService.getEvent(eventId);
+        var user = cud.getUserEntity();
+        boolean isAdmin = user.getRole() != null && "admin".equalsIgnoreCase(user.getRole().name());
+        if (!isAdmin && !user.getId().equals(event.getOrganizerId())) {
+            throw new SecurityException("Not allowed to check in volunteers for this event");
+        }
+    }
+
+    private Long currentUserId(Authentication auth) {
+        if (auth == null || !(auth.getPrincipal() instanceof CustomUserDetails cud)) {
+            throw new IllegalArgumentException("Authentication required");
+        }
+        return cud.getUserEntity().getId();
+    }
+}
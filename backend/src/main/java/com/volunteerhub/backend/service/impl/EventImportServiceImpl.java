@@ -0,0 +1,286 @@
+package com.volunteerhub.backend.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteerhub.backend.dto.EventCreateRequest;
+import com.volunteerhub.backend.dto.EventImportReport;
+import com.volunteerhub.backend.dto.EventImportReport.RowError;
+import com.volunteerhub.backend.security.CustomUserDetails;
+import com.volunteerhub.backend.service.IEventImportService;
+import com.volunteerhub.backend.util.CsvReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Bulk event import: the file is parsed row by row (never held in memory), each row is validated like
+// POST /api/events, and valid rows are written with JDBC batch inserts, one transaction per chunk.
+// With rewriteBatchedStatements=true the driver sends each chunk as a few multi-row INSERTs.
+// New rows reach the search/geo indexes through EventIndexSyncJob (updated_at).
+@Service
+public class EventImportServiceImpl implements IEventImportService {
+
+    private static final int CHUNK = 500;
+    private static final int MAX_ROWS = 50_000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String INSERT_SQL = "INSERT INTO events (organizer_id, name, slug, description, category, " +
+            "location, address, latitude, longitude, start_date, end_date, max_volunteers, current_volunteers, status, " +
+            "registration_open, image_url, requirements, benefits, contact_info, is_deleted, version, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 'pending', TRUE, ?, ?, ?, ?, FALSE, 0, ?, ?)";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EventSlugGenerator slugs;
+
+    public EventImportServiceImpl(JdbcTemplate jdbc,
+                                  TransactionTemplate tx,
+                                  Validator validator,
+                                  ObjectMapper objectMapper,
+                                  EventSlugGenerator slugs) {
+        this.jdbc = jdbc;
+        this.tx = tx;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.slugs = slugs;
+    }
+
+    private record Row(int number, EventCreateRequest req) {}
+
+    // rows are pushed here by the parsers; chunks are flushed as they fill
+    private class Sink {
+        final Long organizerId;
+        final List<Row> chunk = new ArrayList<>(CHUNK);
+        final Set<String> reservedSlugs = new HashSet<>();
+        final List<RowError> errors = new ArrayList<>();
+        int total;
+        int lastRow;
+        int imported;
+        int failed;
+        boolean truncated;
+
+        Sink(Long organizerId) {
+            this.organizerId = organizerId;
+        }
+
+        void accept(int row, EventCreateRequest req) {
+            if (!count(row)) return;
+            String error = validate(req);
+            if (error != null) {
+                fail(row, error);
+                return;
+            }
+            chunk.add(new Row(row, req));
+            if (chunk.size() == CHUNK) flush();
+        }
+
+        void reject(int row, String error) {
+            if (count(row)) fail(row, error);
+        }
+
+        // past MAX_ROWS the parsers stop; what was flushed so far stays imported
+        boolean count(int row) {
+            lastRow = row;
+            if (total == MAX_ROWS) {
+                truncated = true;
+                errors.add(new RowError(row, "Row limit reached (max " + MAX_ROWS + "), remaining rows were not read"));
+                return false;
+            }
+            total++;
+            return true;
+        }
+
+        void fail(int row, String error) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new RowError(row, error));
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) return;
+            List<Row> rows = List.copyOf(chunk);
+            chunk.clear();
+            try {
+                tx.executeWithoutResult(status -> insert(rows, organizerId, reservedSlugs));
+                imported += rows.size();
+            } catch (DataAccessException ex) {
+                // the whole chunk rolled back (e.g. a slug taken concurrently); report its rows
+                for (Row r : rows) fail(r.number(), "Insert failed, chunk rolled back: " + rootMessage(ex));
+            }
+        }
+    }
+
+    @Override
+    public EventImportReport importEvents(InputStream in, String filename, String contentType, Authentication auth) throws IOException {
+        if (auth == null || !(auth.getPrincipal() instanceof CustomUserDetails cud)) {
+            throw new IllegalArgumentException("Authentication required");
+        }
+        long started = System.currentTimeMillis();
+        Sink sink = new Sink(cud.getUserEntity().getId());
+        try {
+            if (isJson(filename, contentType)) {
+                readJson(in, sink);
+            } else {
+                readCsv(in, sink);
+            }
+        } catch (IOException ex) {
+            // malformed record (unterminated quote, broken JSON): earlier chunks are already committed, so
+            // report how far the import got instead of failing the request and inviting a duplicate retry
+            sink.errors.add(new RowError(sink.lastRow + 1,
+                    "Unreadable file, this and remaining rows were not read: " + ex.getMessage()));
+        }
+        sink.flush();
+        return new EventImportReport(sink.total, sink.imported, sink.failed,
+                System.currentTimeMillis() - started, sink.errors);
+    }
+
+    private boolean isJson(String filename, String contentType) {
+        if (contentType != null && contentType.contains("json")) return true;
+        return filename != null && filename.toLowerCase().endsWith(".json");
+    }
+
+    // top-level array of EventCreateRequest objects; each element is bound on its own so a bad row
+    // does not desynchronize the parser
+    private void readJson(InputStream in, Sink sink) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON import must be an array of events");
+            }
+            int row = 0;
+            while (!sink.truncated && parser.nextToken() == JsonToken.START_OBJECT) {
+                row++;
+                JsonNode node = parser.readValueAsTree();
+                EventCreateRequest req;
+                try {
+                    req = objectMapper.treeToValue(node, EventCreateRequest.class);
+                } catch (JsonProcessingException ex) {
+                    sink.reject(row, "Unreadable row: " + ex.getOriginalMessage());
+                    continue;
+                }
+                sink.accept(row, req);
+            }
+        }
+    }
+
+    // header row with EventCreateRequest property names (any order, unknown columns ignored)
+    private void readCsv(InputStream in, Sink sink) throws IOException {
+        CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        List<String> header = csv.next();
+        if (header == null) throw new IllegalArgumentException("Empty file");
+        if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) header.set(0, header.get(0).substring(1));
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) columns.put(header.get(i).trim(), i);
+        if (!columns.containsKey("name")) throw new IllegalArgumentException("CSV header must contain event property names");
+
+        int row = 0;
+        List<String> fields;
+        while (!sink.truncated && (fields = csv.next()) != null) {
+            if (fields.size() == 1 && fields.get(0).isBlank()) continue;
+            row++;
+            EventCreateRequest req;
+            try {
+                req = fromCsv(fields, columns);
+            } catch (RuntimeException ex) {
+                // NumberFormatException / DateTimeParseException
+                sink.reject(row, "Unreadable row: " + ex.getMessage());
+                continue;
+            }
+            sink.accept(row, req);
+        }
+    }
+
+    private EventCreateRequest fromCsv(List<String> f, Map<String, Integer> cols) {
+        EventCreateRequest r = new EventCreateRequest();
+        r.setName(col(f, cols, "name"));
+        r.setDescription(col(f, cols, "description"));
+        r.setCategory(col(f, cols, "category"));
+        r.setLocation(col(f, cols, "location"));
+        r.setAddress(col(f, cols, "address"));
+        r.setLatitude(toDouble(col(f, cols, "latitude")));
+        r.setLongitude(toDouble(col(f, cols, "longitude")));
+        r.setStartDate(toDateTime(col(f, cols, "startDate")));
+        r.setEndDate(toDateTime(col(f, cols, "endDate")));
+        String max = col(f, cols, "maxVolunteers");
+        r.setMaxVolunteers(max == null ? null : Integer.valueOf(max));
+        r.setImageUrl(col(f, cols, "imageUrl"));
+        r.setRequirements(col(f, cols, "requirements"));
+        r.setBenefits(col(f, cols, "benefits"));
+        r.setContactInfo(col(f, cols, "contactInfo"));
+        return r;
+    }
+
+    private static String col(List<String> f, Map<String, Integer> cols, String name) {
+        Integer i = cols.get(name);
+        if (i == null || i >= f.size()) return null;
+        String v = f.get(i).trim();
+        return v.isEmpty() ? null : v;
+    }
+
+    private static Double toDouble(String v) {
+        return v == null ? null : Double.valueOf(v);
+    }
+
+    private static LocalDateTime toDateTime(String v) {
+        return v == null ? null : LocalDateTime.parse(v);
+    }
+
+    // same rules as POST /api/events: bean validation + startDate before endDate
+    private String validate(EventCreateRequest req) {
+        Set<ConstraintViolation<EventCreateRequest>> violations = validator.validate(req);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (!req.getStartDate().isBefore(req.getEndDate())) return "startDate must be before endDate";
+        return null;
+    }
+
+    private void insert(List<Row> rows, Long organizerId, Set<String> reservedSlugs) {
+        List<String> slugList = slugs.uniqueAll(rows.stream().map(r -> r.req().getName()).toList(), reservedSlugs);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            EventCreateRequest r = rows.get(i).req();
+            args.add(new Object[]{organizerId, r.getName(), slugList.get(i), r.getDescription(), r.getCategory(),
+                    r.getLocation(), r.getAddress(), r.getLatitude(), r.getLongitude(),
+                    Timestamp.valueOf(r.getStartDate()), Timestamp.valueOf(r.getEndDate()), r.getMaxVolunteers(),
+                    r.getImageUrl(), r.getRequirements(), r.getBenefits(), r.getContactInfo(), now, now});
+        }
+        int[] types = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.VARCHAR,
+                Types.VARCHAR, Types.LONGVARCHAR, Types.DOUBLE, Types.DOUBLE,
+                Types.TIMESTAMP, Types.TIMESTAMP, Types.INTEGER,
+                Types.VARCHAR, Types.LONGVARCHAR, Types.LONGVARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP};
+        jdbc.batchUpdate(INSERT_SQL, args, types);
+    }
+
+    private static String rootMessage(Throwable ex) {
+        Throwable t = ex;
+        while (t.getCause() != null) t = t.getCause();
+        return t.getMessage();
+    }
+}
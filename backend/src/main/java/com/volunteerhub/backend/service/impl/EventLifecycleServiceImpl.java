@@ -0,0 +1,69 @@
+package com.volunteerhub.backend.service.impl;
+
+import com.volunteerhub.backend.domain.EventLifecycleChanged;
+import com.volunteerhub.backend.domain.EventLifecycleChanged.Transition;
+import com.volunteerhub.backend.entity.RegistrationEntity.RegistrationStatus;
+import com.volunteerhub.backend.repository.EventRepository;
+import com.volunteerhub.backend.repository.RegistrationRepository;
+import com.volunteerhub.backend.service.IEventLifecycleService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// One chunk per transaction: lock due rows with SKIP LOCKED (other nodes take the next rows),
+// flip them with one set-based UPDATE, publish one domain event per event row.
+@Service
+public class EventLifecycleServiceImpl implements IEventLifecycleService {
+
+    private static final List<RegistrationStatus> ACTIVE = List.of(RegistrationStatus.pending, RegistrationStatus.approved,
+            RegistrationStatus.waitlisted);
+
+    private final EventRepository eventRepo;
+    private final RegistrationRepository regRepo;
+    private final ApplicationEventPublisher publisher;
+
+    public EventLifecycleServiceImpl(EventRepository eventRepo,
+                                     RegistrationRepository regRepo,
+                                     ApplicationEventPublisher publisher) {
+        this.eventRepo = eventRepo;
+        this.regRepo = regRepo;
+        this.publisher = publisher;
+    }
+
+    @Override
+    @Transactional
+    public int closeRegistrationBatch(LocalDateTime now, int limit) {
+        List<Long> ids = eventRepo.lockDueForRegistrationClose(now, limit);
+        if (ids.isEmpty()) return 0;
+        eventRepo.closeRegistration(ids, now);
+        publish(ids, Transition.REGISTRATION_CLOSED);
+        return ids.size();
+    }
+
+    @Override
+    @Transactional
+    public int completeBatch(LocalDateTime now, int limit) {
+        List<Long> ids = eventRepo.lockDueForCompletion(now, limit);
+        if (ids.isEmpty()) return 0;
+        eventRepo.complete(ids, now);
+        publish(ids, Transition.COMPLETED);
+        return ids.size();
+    }
+
+    private void publish(List<Long> eventIds, Transition transition) {
+        Map<Long, List<Long>> regs = regRepo.findIdsByEventIdsAndStatusIn(eventIds, ACTIVE).stream()
+                .collect(Collectors.groupingBy(RegistrationRepository.EventRegistrationId::getEventId,
+                        Collectors.mapping(RegistrationRepository.EventRegistrationId::getId, Collectors.toList())));
+        // rows are still locked by this transaction -> versions are the ones being committed
+        for (EventRepository.VersionView v : eventRepo.findVersionsByIdIn(eventIds)) {
+            List<Long> regIds = regs.getOrDefault(v.getId(), new ArrayList<>());
+            publisher.publishEvent(new EventLifecycleChanged(v.getId(), v.getVersion(), transition, regIds));
+        }
+    }
+}
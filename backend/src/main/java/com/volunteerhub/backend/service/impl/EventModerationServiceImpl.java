@@ -0,0 +1,86 @@
+package com.volunteerhub.backend.service.impl;
+
+import com.volunteerhub.backend.domain.EventModerated;
+import com.volunteerhub.backend.dto.BulkModerationResponse;
+import com.volunteerhub.backend.dto.EventSummaryResponse;
+import com.volunteerhub.backend.repository.EventRepository;
+import com.volunteerhub.backend.security.CustomUserDetails;
+import com.volunteerhub.backend.service.IEventModerationService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+// Bulk moderation: lock the still-pending rows, flip them with one UPDATE, publish EventModerated
+// per row. Notifications etc. run after commit on the async executor (EventModerationListener).
+@Service
+public class EventModerationServiceImpl implements IEventModerationService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final EventRepository eventRepo;
+    private final ApplicationEventPublisher publisher;
+
+    public EventModerationServiceImpl(EventRepository eventRepo, ApplicationEventPublisher publisher) {
+        this.eventRepo = eventRepo;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public Page<EventSummaryResponse> pendingQueue(Pageable pageable) {
+        Pageable capped = PageRequest.of(Math.max(pageable.getPageNumber(), 0),
+                Math.min(Math.max(pageable.getPageSize(), 1), MAX_PAGE_SIZE));
+        return eventRepo.findPendingQueue(capped);
+    }
+
+    @Override
+    @Transactional
+    public BulkModerationResponse approve(List<Long> ids, Authentication auth) {
+        return moderate(ids, true, null, auth);
+    }
+
+    @Override
+    @Transactional
+    public BulkModerationResponse reject(List<Long> ids, String reason, Authentication auth) {
+        return moderate(ids, false, reason, auth);
+    }
+
+    private BulkModerationResponse moderate(List<Long> ids, boolean approve, String reason, Authentication auth) {
+        Long adminId = currentUserId(auth);
+        List<Long> requested = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (requested.isEmpty()) throw new IllegalArgumentException("No event ids given");
+        // rows another admin already moved (or is moving) fall out here -> reported as skipped
+        List<Long> locked = eventRepo.lockPendingByIdIn(requested);
+        if (!locked.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            if (approve) {
+                eventRepo.approveAll(locked, adminId, now);
+            } else {
+                eventRepo.rejectAll(locked, adminId, now);
+            }
+            for (EventRepository.ModerationView v : eventRepo.findModerationViewsByIdIn(locked)) {
+                publisher.publishEvent(new EventModerated(v.getId(), v.getVersion(), v.getOrganizerId(),
+                        v.getName(), approve, reason));
+            }
+        }
+        Set<Long> done = new HashSet<>(locked);
+        List<Long> skipped = requested.stream().filter(id -> !done.contains(id)).toList();
+        return new BulkModerationResponse(locked, skipped);
+    }
+
+    private Long currentUserId(Authentication auth) {
+        if (auth == null || !(auth.getPrincipal() instanceof CustomUserDetails)) {
+            throw new IllegalArgumentException("Authentication required");
+        }
+        return ((CustomUserDetails) auth.getPrincipal()).getUserEntity().getId();
+    }
+}
@@ -1,7 +1,13 @@
 package com.volunteerhub.backend.service.impl;
 
+import com.volunteerhub.backend.cache.EventCache;
+import com.volunteerhub.backend.domain.EventModerated;
+import com.volunteerhub.backend.dto.CursorPage;
 import com.volunteerhub.backend.dto.EventCreateRequest;
 import com.volunteerhub.backend.dto.EventResponse;
+import com.volunteerhub.backend.dto.EventSearchFilter;
+import com.volunteerhub.backend.dto.EventSummaryResponse;
+import com.volunteerhub.backend.dto.NearbyEventResponse;
 import com.volunteerhub.backend.entity.EventEntity;
 import com.volunteerhub.backend.entity.EventStatus;
 import com.volunteerhub.backend.mapper.EventMapper;
@@ -9,82 +15,201 @@ import com.volunteerhub.backend.repository.EventRepository;
 import com.volunteerhub.backend.service.IEventService;
 import com.volunteerhub.backend.entity.UserEntity;
 import com.volunteerhub.backend.repository.UserRepository;
+import com.volunteerhub.backend.search.EventGeoIndex;
+import com.volunteerhub.backend.search.EventTextIndex;
 import com.volunteerhub.backend.security.CustomUserDetails;
+import com.volunteerhub.backend.util.KeysetCursor;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
-import java.text.Normalizer;
 import java.time.LocalDateTime;
-import java.util.Locale;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class EventServiceImpl implements IEventService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final double MAX_RADIUS_KM = 200;
+    private static final int SLUG_ATTEMPTS = 5;
+
     private final EventRepository repo;
     private final UserRepository userRepository;
     private final EventMapper mapper;
+    private final EventTextIndex textIndex;
+    private final EventGeoIndex geoIndex;
+    private final EventCache eventCache;
+    private final EventSlugGenerator slugs;
+    private final ApplicationEventPublisher publisher;
+    private final WaitlistPromoter waitlist;
+    private final TransactionTemplate tx;
 
-    public EventServiceImpl(EventRepository repo, UserRepository userRepository, EventMapper mapper) {
+    public EventServiceImpl(EventRepository repo, UserRepository userRepository, EventMapper mapper,
+                            EventTextIndex textIndex, EventGeoIndex geoIndex, EventCache eventCache,
+                            EventSlugGenerator slugs, ApplicationEventPublisher publisher,
+                            WaitlistPromoter waitlist, TransactionTemplate tx) {
         this.repo = repo;
         this.userRepository = userRepository;
         this.mapper = mapper;
-    }
-
-    private String toSlug(String input) {
-        if (!StringUtils.hasText(input)) return null;
-        String nowhitespace = Pattern.compile("\\s").matcher(input).replaceAll("-");
-        String normalized = Normalizer.normalize(nowhitespace, Normalizer.Form.NFD);
-        String slug = Pattern.compile("[^\\w\\-]").matcher(normalized).replaceAll("");
-        return slug.toLowerCase(Locale.ENGLISH);
+        this.textIndex = textIndex;
+        this.geoIndex = geoIndex;
+        this.eventCache = eventCache;
+        this.slugs = slugs;
+        this.publisher = publisher;
+        this.waitlist = waitlist;
+        this.tx = tx;
     }
 
     @Override
-    @Transactional
     public EventResponse createEvent(EventCreateRequest req, Authentication auth) {
         if (req.getStartDate() != null && req.getEndDate() != null && !req.getStartDate().isBefore(req.getEndDate())) {
             throw new IllegalArgumentException("startDate must be before endDate");
         }
-        UserEntity organizer = currentUserEntity(auth);
-        EventEntity e = mapper.toEntity(req);
-        e.setOrganizer(organizer);
-        e.setSlug(toSlug(req.getName()));
-        e.setStatus(EventStatus.pending);
-        e.setCurrentVolunteers(0);
-        e.setCreatedAt(LocalDateTime.now());
-        e.setUpdatedAt(LocalDateTime.now());
-        EventEntity saved = repo.save(e);
-        return mapper.toResponse(saved);
+        return withSlugRetry(retry -> {
+            UserEntity organizer = currentUserEntity(auth);
+            EventEntity e = mapper.toEntity(req);
+            e.setOrganizer(organizer);
+            e.setSlug(retry ? slugs.suffixed(req.getName()) : slugs.unique(req.getName(), null));
+            e.setStatus(EventStatus.pending);
+            e.setCurrentVolunteers(0);
+            e.setCreatedAt(LocalDateTime.now());
+            e.setUpdatedAt(LocalDateTime.now());
+            EventEntity saved = repo.saveAndFlush(e);
+            textIndex.indexAfterCommit(saved);
+            geoIndex.indexAfterCommit(saved);
+            return mapper.toResponse(saved);
+        });
     }
 
     @Override
     public Page<EventResponse> listEvents(Optional<String> statusOpt, Pageable pageable) {
         if (statusOpt.isPresent()) {
-            EventStatus st;
-            try {
-                st = EventStatus.valueOf(statusOpt.get());
-            } catch (Exception ex) {
-                throw new IllegalArgumentException("Invalid status");
-            }
-            return repo.findByStatus(st, pageable).map(mapper::toResponse);
+            return repo.findByStatus(parseStatus(statusOpt.get()), pageable).map(mapper::toResponse);
         }
         return repo.findAll(pageable).map(mapper::toResponse);
     }
 
+    @Override
+    public CursorPage<EventResponse> listEventsByCursor(Optional<String> statusOpt, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        KeysetCursor after = StringUtils.hasText(cursor) ? KeysetCursor.decode(cursor) : null;
+        Slice<EventEntity> slice;
+        if (statusOpt.isPresent()) {
+            EventStatus st = parseStatus(statusOpt.get());
+            slice = after == null
+                    ? repo.findFirstKeysetPageByStatus(st, limit)
+                    : repo.findKeysetPageByStatusAfter(st, after.getAt(), after.getId(), limit);
+        } else {
+            slice = after == null
+                    ? repo.findFirstKeysetPage(limit)
+                    : repo.findKeysetPageAfter(after.getAt(), after.getId(), limit);
+        }
+        List<EventEntity> rows = slice.getContent();
+        String next = null;
+        if (slice.hasNext() && !rows.isEmpty()) {
+            EventEntity last = rows.get(rows.size() - 1);
+            next = new KeysetCursor(last.getStartDate(), last.getId()).encode();
+        }
+        return new CursorPage<>(rows.stream().map(mapper::toResponse).toList(), next, slice.hasNext());
+    }
+
+    @Override
+    public Page<EventSummaryResponse> searchEvents(EventSearchFilter filter, Pageable pageable) {
+        if (filter.getFrom() != null && filter.getTo() != null && !filter.getFrom().isBefore(filter.getTo())) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        Pageable capped = PageRequest.of(Math.max(pageable.getPageNumber(), 0),
+                Math.min(Math.max(pageable.getPageSize(), 1), MAX_PAGE_SIZE));
+        return repo.search(filter, capped);
+    }
+
+    @Override
+    public Page<EventSummaryResponse> searchEventsByText(String q, Optional<String> statusOpt, Pageable pageable) {
+        EventStatus status = statusOpt.map(this::parseStatus).orElse(null);
+        int size = Math.min(Math.max(pageable.getPageSize(), 1), MAX_PAGE_SIZE);
+        Pageable capped = PageRequest.of(Math.max(pageable.getPageNumber(), 0), size);
+        EventTextIndex.Hits hits = textIndex.search(q, status, (int) capped.getOffset(), size);
+        if (hits.ids().isEmpty()) return new PageImpl<>(List.of(), capped, hits.total());
+        // one IN query for the page, then back into relevance order
+        Map<Long, EventSummaryResponse> byId = repo.findSummariesByIdIn(hits.ids()).stream()
+                .collect(Collectors.toMap(EventSummaryResponse::getId, Function.identity()));
+        List<EventSummaryResponse> content = hits.ids().stream().map(byId::get).filter(r -> r != null).toList();
+        return new PageImpl<>(content, capped, hits.total());
+    }
+
+    @Override
+    public Page<NearbyEventResponse> nearbyEvents(double lat, double lon, double radiusKm,
+                                                  EventSearchFilter filter, Pageable pageable) {
+        if (lat < -90 || lat > 90 || lon < -180 || lon > 180) {
+            throw new IllegalArgumentException("Invalid coordinates");
+        }
+        if (!(radiusKm > 0) || radiusKm > MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("radiusKm must be between 0 and " + (int) MAX_RADIUS_KM);
+        }
+        int size = Math.min(Math.max(pageable.getPageSize(), 1), MAX_PAGE_SIZE);
+        Pageable capped = PageRequest.of(Math.max(pageable.getPageNumber(), 0), size);
+        EventGeoIndex.Hits hits = geoIndex.nearby(lat, lon, radiusKm, filter.getStatus(),
+                filter.getFrom(), filter.getTo(), (int) capped.getOffset(), size);
+        if (hits.hits().isEmpty()) return new PageImpl<>(List.of(), capped, hits.total());
+        List<Long> ids = hits.hits().stream().map(EventGeoIndex.Hit::id).toList();
+        Map<Long, EventSummaryResponse> byId = repo.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(EventSummaryResponse::getId, Function.identity()));
+        List<NearbyEventResponse> content = hits.hits().stream()
+                .filter(h -> byId.containsKey(h.id()))
+                .map(h -> new NearbyEventResponse(byId.get(h.id()), Math.round(h.distanceKm() * 100) / 100.0))
+                .toList();
+        return new PageImpl<>(content, capped, hits.total());
+    }
+
+    private EventStatus parseStatus(String status) {
+        try {
+            return EventStatus.valueOf(status);
+        } catch (Exception ex) {
+            throw new IllegalArgumentException("Invalid status");
+        }
+    }
+
     @Override
     public EventResponse getEvent(Long id) {
-        var e = repo.findById(id).orElseThrow(() -> new IllegalArgumentException("Event not found"));
-        return mapper.toResponse(e);
+        EventResponse resp = eventCache.get(id, k -> repo.findWithOrganizerById(k).map(mapper::toResponse).orElse(null));
+        if (resp == null) throw new IllegalArgumentException("Event not found");
+        return resp;
+    }
+
+    // slug -> id from the map, then the id path (EventCache / primary key)
+    @Override
+    public EventResponse getEventBySlug(String slug) {
+        Long id = eventCache.idForSlug(slug, k -> repo.findIdBySlug(k).orElse(null));
+        if (id == null) throw new IllegalArgumentException("Event not found");
+        EventResponse resp = getEvent(id);
+        if (!slug.equals(resp.getSlug())) {
+            // renamed on another node since the mapping was cached
+            eventCache.evictSlug(slug);
+            Long current = repo.findIdBySlug(slug).orElseThrow(() -> new IllegalArgumentException("Event not found"));
+            resp = getEvent(current);
+        }
+        return resp;
     }
 
     @Override
-    @Transactional
     public EventResponse updateEvent(Long id, EventCreateRequest req, Authentication auth) {
+        return withSlugRetry(retry -> doUpdateEvent(id, req, auth, retry));
+    }
+
+    private EventResponse doUpdateEvent(Long id, EventCreateRequest req, Authentication auth, boolean retry) {
         var e = repo.findById(id).orElseThrow(() -> new IllegalArgumentException("Event not found"));
         UserEntity current = currentUserEntity(auth);
         boolean isOwner = e.getOrganizer() != null && e.getOrganizer().getId().equals(current.getId());
@@ -93,32 +218,94 @@ public class EventServiceImpl implements IEventService {
         if (req.getStartDate() != null && req.getEndDate() != null && !req.getStartDate().isBefore(req.getEndDate())) {
             throw new IllegalArgumentException("startDate must be before endDate");
         }
+        String oldName = e.getName();
+        String oldSlug = e.getSlug();
+        Integer oldMax = e.getMaxVolunteers();
         // map fields from req to entity (mapper method)
         mapper.updateEntityFromDto(req, e);
-        e.setSlug(toSlug(req.getName()));
+        // keep the published URL unless the name actually changed
+        if (oldSlug == null || (req.getName() != null && !req.getName().equals(oldName))) {
+            e.setSlug(retry ? slugs.suffixed(e.getName()) : slugs.unique(e.getName(), e.getId()));
+            if (!e.getSlug().equals(oldSlug)) eventCache.evictSlug(oldSlug);
+        }
         e.setUpdatedAt(LocalDateTime.now());
-        EventEntity saved = repo.save(e);
-        return mapper.toResponse(saved);
+        EventEntity saved = repo.saveAndFlush(e);
+        textIndex.indexAfterCommit(saved);
+        geoIndex.indexAfterCommit(saved);
+        eventCache.evictAfterCommit(saved);
+        EventResponse resp = mapper.toResponse(saved);
+        // more room (or the limit removed) -> waitlisted volunteers move up in this transaction
+        Integer newMax = saved.getMaxVolunteers();
+        if (oldMax != null && (newMax == null || newMax > oldMax)) {
+            int promoted = waitlist.promote(saved.getId());
+            resp.setCurrentVolunteers(resp.getCurrentVolunteers() + promoted);
+        }
+        return resp;
     }
 
     @Override
     @Transactional
     public EventResponse approveEvent(Long id, Authentication auth) {
         var e = repo.findById(id).orElseThrow(() -> new IllegalArgumentException("Event not found"));
-        UserEntity admin = currentUserEntity(auth);
+        // only approved_by's id is written -> reference, no users select
+        UserEntity admin = userRepository.getReferenceById(currentUserId(auth));
         e.setStatus(EventStatus.approved);
         e.setApprovedAt(LocalDateTime.now());
         e.setApprovedBy(admin);
-        EventEntity saved = repo.save(e);
+        // flushed so the published version is the committed one
+        EventEntity saved = repo.saveAndFlush(e);
+        textIndex.indexAfterCommit(saved);
+        geoIndex.indexAfterCommit(saved);
+        eventCache.evictAfterCommit(saved);
+        publisher.publishEvent(new EventModerated(saved.getId(), saved.getVersion(),
+                saved.getOrganizer().getId(), saved.getName(), true, null));
         return mapper.toResponse(saved);
     }
 
+    @Override
+    @Transactional
+    public EventResponse setHighDemand(Long id, boolean enabled, Authentication auth) {
+        var e = repo.findById(id).orElseThrow(() -> new IllegalArgumentException("Event not found"));
+        UserEntity current = currentUserEntity(auth);
+        boolean isOwner = e.getOrganizer() != null && e.getOrganizer().getId().equals(current.getId());
+        boolean isAdmin = current.getRole() != null && "admin".equalsIgnoreCase(current.getRole().name());
+        if (!isOwner && !isAdmin) throw new SecurityException("Not allowed to update this event");
+        e.setHighDemand(enabled);
+        e.setUpdatedAt(LocalDateTime.now());
+        EventEntity saved = repo.saveAndFlush(e);
+        // register() reads the flag from the cached detail view
+        eventCache.evictAfterCommit(saved);
+        return mapper.toResponse(saved);
+    }
+
+    // two creates/renames to the same name can pick the same slug; the loser fails on uq_events_slug and is
+    // re-run in a fresh transaction with the next "-<n>" suffix
+    private EventResponse withSlugRetry(Function<Boolean, EventResponse> work) {
+        for (int attempt = 1; ; attempt++) {
+            boolean retry = attempt > 1;
+            try {
+                return tx.execute(status -> work.apply(retry));
+            } catch (DataIntegrityViolationException ex) {
+                if (attempt >= SLUG_ATTEMPTS || !isSlugConflict(ex)) throw ex;
+            }
+        }
+    }
+
+    private static boolean isSlugConflict(DataIntegrityViolationException ex) {
+        String msg = ex.getMostSpecificCause().getMessage();
+        return msg != null && msg.toLowerCase().contains("uq_events_slug");
+    }
+
     private UserEntity currentUserEntity(Authentication auth) {
+        Long userId = currentUserId(auth);
+        return userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("User not found"));
+    }
+
+    private Long currentUserId(Authentication auth) {
         if (auth == null || !(auth.getPrincipal() instanceof CustomUserDetails)) {
             throw new IllegalArgumentException("Authentication required");
         }
         CustomUserDetails cud = (CustomUserDetails) auth.getPrincipal();
-        Long userId = cud.getUserEntity().getId();
-        return userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("User not found"));
+        return cud.getUserEntity().getId();
     }
 }
@@ -0,0 +1,69 @@
+package com.volunteerhub.backend.service.impl;
+
+import com.volunteerhub.backend.repository.EventRepository;
+import com.volunteerhub.backend.util.TextNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// Unique event slugs: "<base>", else "<base>-<n>" with the next free n; uq_events_slug backs it.
+@Component
+public class EventSlugGenerator {
+
+    private static final int SLUG_MAX = 200;
+
+    private final EventRepository repo;
+
+    public EventSlugGenerator(EventRepository repo) {
+        this.repo = repo;
+    }
+
+    public String base(String name) {
+        String base = TextNormalizer.slugify(name, SLUG_MAX);
+        return base.isEmpty() ? "event" : base;
+    }
+
+    public String unique(String name, Long selfId) {
+        String base = base(name);
+        Optional<Long> owner = repo.findIdBySlug(base);
+        if (owner.isEmpty() || owner.get().equals(selfId)) return base;
+        return suffixed(base, Set.of());
+    }
+
+    // after losing a race on uq_events_slug: skip the base, take the next free suffix
+    public String suffixed(String name) {
+        return suffixed(base(name), Set.of());
+    }
+
+    // bulk variant: one IN query for all bases, the LIKE scan only for collisions;
+    // reserved = slugs already handed out in the current batch (updated in place)
+    public List<String> uniqueAll(List<String> names, Set<String> reserved) {
+        List<String> bases = names.stream().map(this::base).toList();
+        Set<String> taken = new HashSet<>(repo.findExistingSlugs(new HashSet<>(bases)));
+        return bases.stream().map(base -> {
+            String slug = taken.contains(base) || reserved.contains(base) ? suffixed(base, reserved) : base;
+            reserved.add(slug);
+            return slug;
+        }).toList();
+    }
+
+    private String suffixed(String base, Collection<String> reserved) {
+        int next = 2;
+        String prefix = base + "-";
+        Iterable<String> candidates = repo.findSlugsLike(prefix.replace("_", "\\_").replace("%", "\\%") + "%");
+        for (Iterable<String> source : List.of(candidates, reserved)) {
+            for (String taken : source) {
+                if (!taken.startsWith(prefix)) continue;
+                String tail = taken.substring(prefix.length());
+                if (!tail.isEmpty() && tail.length() < 10 && tail.chars().allMatch(Character::isDigit)) {
+                    next = Math.max(next, Integer.parseInt(tail) + 1);
+                }
+            }
+        }
+        return prefix + next;
+    }
+}
@@ -13,6 +13,7 @@ import com.volunteerhub.backend.entity.RegistrationEntity;
 import com.volunteerhub.backend.repository.RegistrationRepository;
 import com.volunteerhub.backend.repository.UserRepository;
 import com.volunteerhub.backend.security.CustomUserDetails;
+import com.volunteerhub.backend.util.ETags;
 import jakarta.transaction.Transactional;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
@@ -105,6 +106,15 @@ public class PostServiceImpl implements IPostService {
         return postRepo.findByEventAndIsDeletedFalseOrderByCreatedAtDesc(event, pageable).map(postMapper::toResponse);
     }
 
+    @Override
+    public String listPostsETag(Long eventId, Pageable pageable) {
+        if (!eventRepo.existsById(eventId)) throw new IllegalArgumentException("Event not found");
+        var p = postRepo.findStampsByEventId(eventId, pageable);
+        StringBuilder sb = new StringBuilder("posts|").append(eventId).append('|').append(p.getTotalElements());
+        for (var s : p.getContent()) sb.append('|').append(s.getId()).append(':').append(s.getUpdatedAt());
+        return ETags.strong(sb.toString());
+    }
+
     @Override
     @Transactional
     public CommentResponse addComment(Long postId, CommentCreateRequest req, Authentication auth) {
@@ -134,6 +144,13 @@ public class PostServiceImpl implements IPostService {
         return commentRepo.findByPostAndIsDeletedFalseOrderByCreatedAtAsc(post).stream().map(commentMapper::toResponse).collect(Collectors.toList());
     }
 
+    @Override
+    public String listCommentsETag(Long postId) {
+        if (!postRepo.existsById(postId)) throw new IllegalArgumentException("Post not found");
+        var s = commentRepo.findStampByPostId(postId);
+        return ETags.strong("comments|" + postId + "|" + s.getCount() + "|" + s.getMaxId() + "|" + s.getLastUpdated());
+    }
+
     @Override
     @Transactional
     public void likePost(Long postId, Authentication auth) {
@@ -4,36 +4,33 @@ import com.volunteerhub.backend.service.IRefreshTokenService;
 import com.volunteerhub.backend.entity.RefreshTokenEntity;
 import com.volunteerhub.backend.entity.UserEntity;
 import com.volunteerhub.backend.repository.RefreshTokenRepository;
+import com.volunteerhub.backend.security.RevokedTokenIndex;
+import com.volunteerhub.backend.util.TokenUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
 public class RefreshTokenServiceImpl implements IRefreshTokenService {
 
+    private static final int ID_CHUNK = 500;
+
     private final RefreshTokenRepository repo;
+    private final RevokedTokenIndex revokedIndex;
 
-    public RefreshTokenServiceImpl(RefreshTokenRepository repo) {
+    public RefreshTokenServiceImpl(RefreshTokenRepository repo, RevokedTokenIndex revokedIndex) {
         this.repo = repo;
+        this.revokedIndex = revokedIndex;
     }
 
     private String sha256Hex(String input) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] digest = md.digest(input.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder();
-            for (byte b : digest) {
-                sb.append(String.format("%02x", b));
-            }
-            return sb.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not available", e);
-        }
+        return TokenUtils.sha256Hex(input);
     }
 
     @Override
@@ -59,19 +56,78 @@ public class RefreshTokenServiceImpl implements IRefreshTokenService {
     public void revokeToken(RefreshTokenEntity tokenEntity) {
         tokenEntity.setRevoked(true);
         repo.save(tokenEntity);
+        revokedIndex.add(tokenEntity.getTokenHash(), tokenEntity.getExpiresAt());
     }
 
+    // One UPDATE per user instead of load + saveAll (one UPDATE per row).
     @Override
     @Transactional
     public void revokeAllForUser(UserEntity user) {
-        var tokens = repo.findByUser(user);
-        tokens.forEach(t -> t.setRevoked(true));
-        repo.saveAll(tokens);
+        revokeAllForUsers(List.of(user.getId()));
     }
 
     @Override
     @Transactional
     public void deleteAllForUser(UserEntity user) {
-        repo.deleteAllByUser(user);
+        deleteAllForUsers(List.of(user.getId()));
+    }
+
+    // Bulk admin actions: ids go in chunks of ID_CHUNK, two statements per chunk
+    // (read live hashes for the revocation index, then the set-based write).
+    @Override
+    @Transactional
+    public int revokeAllForUsers(Collection<Long> userIds) {
+        int total = 0;
+        for (List<Long> chunk : chunks(userIds)) {
+            indexActiveTokens(chunk);
+            total += repo.revokeAllByUserIds(chunk);
+        }
+        return total;
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllForUsers(Collection<Long> userIds) {
+        int total = 0;
+        for (List<Long> chunk : chunks(userIds)) {
+            indexActiveTokens(chunk);
+            total += repo.deleteAllByUserIds(chunk);
+        }
+        return total;
+    }
+
+    private void indexActiveTokens(List<Long> userIds) {
+        repo.findActiveByUserIds(userIds).forEach(t -> revokedIndex.add(t.getTokenHash(), t.getExpiresAt()));
+    }
+
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        List<List<Long>> out = new ArrayList<>();
+        for (int i = 0; i < distinct.size(); i += ID_CHUNK) {
+            out.add(distinct.subList(i, Math.min(i + ID_CHUNK, distinct.size())));
+        }
+        return out;
+    }
+
+    @Override
+    public boolean isRevoked(String token) {
+        return revokedIndex.isRevoked(sha256Hex(token));
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired(LocalDateTime cutoff, int batchSize) {
+        return repo.deleteExpiredBatch(cutoff, batchSize);
+    }
+
+    @Override
+    @Transactional
+    public int purgeRevoked(int batchSize) {
+        return repo.deleteRevokedBatch(batchSize);
+    }
+
+    @Override
+    public int pruneRevokedIndex() {
+        return revokedIndex.purgeExpired();
     }
 }
@@ -0,0 +1,291 @@
+package com.volunteerhub.backend.service.impl;
+
+import com.volunteerhub.backend.dto.EventResponse;
+import com.volunteerhub.backend.dto.RegistrationCreateRequest;
+import com.volunteerhub.backend.dto.RegistrationTicket;
+import com.volunteerhub.backend.entity.RegistrationEntity;
+import com.volunteerhub.backend.exception.ServiceBusyException;
+import com.volunteerhub.backend.security.CustomUserDetails;
+import com.volunteerhub.backend.service.IEventService;
+import com.volunteerhub.backend.service.IRegistrationAdmissionService;
+import com.volunteerhub.backend.util.TtlCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// High-demand registration: the request thread only checks the cached event and enqueues an intent
+// (no users/events/registrations reads); one drainer per event writes intents in batches.
+// unique_registration decides duplicates, including against other nodes and the synchronous path.
+// Ticket states live on the node that queued them (route polls sticky); a poll landing elsewhere is
+// answered from the registration row, and a miss there means "re-submit" (registering is idempotent).
+@Service
+public class RegistrationAdmissionServiceImpl implements IRegistrationAdmissionService {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrationAdmissionServiceImpl.class);
+
+    private static final String QUEUED = "queued";
+    private static final String REGISTERED = "registered";
+    private static final String DUPLICATE = "duplicate";
+    private static final String REJECTED = "rejected";
+
+    private final IEventService eventService;
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+    private final TransactionTemplate tx;
+    private final RegistrationCounters counters;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final int retryAfterSeconds;
+
+    // lanes exist only while an event has intents queued or being written
+    private final ConcurrentHashMap<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private final TtlCache<String, Ticket> tickets;
+    // "eventId:volunteerId" -> ticket id, so client retries get the same ticket back
+    private final TtlCache<String, String> ticketByVolunteer;
+    private final ExecutorService drainers;
+
+    private record Intent(String ticketId, Long eventId, Long volunteerId, String note, LocalDateTime at) {}
+
+    private record Ticket(Long eventId, Long volunteerId, String status, Long registrationId, String error) {}
+
+    private static class Lane {
+        final BlockingQueue<Intent> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        Lane(int capacity) {
+            // linked: bounded but not preallocated, an idle event costs nothing
+            this.queue = new LinkedBlockingQueue<>(capacity);
+        }
+    }
+
+    public RegistrationAdmissionServiceImpl(IEventService eventService,
+                                            JdbcTemplate jdbc,
+                                            TransactionTemplate tx,
+                                            RegistrationCounters counters,
+                                            MeterRegistry registry,
+                                            @Value("${registration.admission.queueCapacity:10000}") int queueCapacity,
+                                            @Value("${registration.admission.batchSize:200}") int batchSize,
+                                            @Value("${registration.admission.drainThreads:2}") int drainThreads,
+                                            @Value("${registration.admission.ticketTtlMs:900000}") long ticketTtlMs,
+                                            @Value("${registration.admission.retryAfterSeconds:2}") int retryAfterSeconds) {
+        this.eventService = eventService;
+        this.jdbc = jdbc;
+        this.named = new NamedParameterJdbcTemplate(jdbc);
+        this.tx = tx;
+        this.counters = counters;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.tickets = new TtlCache<>(queueCapacity * 10, ticketTtlMs);
+        this.ticketByVolunteer = new TtlCache<>(queueCapacity * 10, ticketTtlMs);
+        AtomicInteger seq = new AtomicInteger();
+        this.drainers = Executors.newFixedThreadPool(drainThreads, r -> {
+            Thread t = new Thread(r, "registration-drain-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        Gauge.builder("registration.admission.queued", lanes,
+                        l -> l.values().stream().mapToInt(lane -> lane.queue.size()).sum())
+                .description("Registration intents waiting to be written")
+                .register(registry);
+    }
+
+    @Override
+    public Optional<RegistrationTicket> tryAdmit(Long eventId, RegistrationCreateRequest req, Authentication auth) {
+        // cached detail view: no DB hit while the event is hot
+        EventResponse event = eventService.getEvent(eventId);
+        if (!Boolean.TRUE.equals(event.getHighDemand())) return Optional.empty();
+        // same rules as the synchronous register()
+        if ("cancelled".equals(event.getStatus()) || "completed".equals(event.getStatus())) {
+            throw new IllegalArgumentException("Cannot register for this event");
+        }
+        if (Boolean.FALSE.equals(event.getRegistrationOpen())
+                || (event.getStartDate() != null && !LocalDateTime.now().isBefore(event.getStartDate()))) {
+            throw new IllegalArgumentException("Registration is closed for this event");
+        }
+        Long volunteerId = currentUserId(auth);
+
+        String key = eventId + ":" + volunteerId;
+        String existing = ticketByVolunteer.get(key);
+        if (existing != null) {
+            Ticket t = tickets.get(existing);
+            if (t != null && !REJECTED.equals(t.status())) return Optional.of(toDto(existing, t));
+        }
+
+        // "<eventId>.<uuid>": another node can resolve the ticket from the registration row
+        String ticketId = eventId + "." + UUID.randomUUID();
+        Intent intent = new Intent(ticketId, eventId, volunteerId, req.getNote(), LocalDateTime.now());
+        Ticket queued = new Ticket(eventId, volunteerId, QUEUED, null, null);
+        tickets.put(ticketId, queued);
+        // offered inside compute(): atomic with the drainer removing an emptied lane
+        AtomicBoolean offered = new AtomicBoolean();
+        Lane lane = lanes.compute(eventId, (id, l) -> {
+            Lane target = l != null ? l : new Lane(queueCapacity);
+            offered.set(target.queue.offer(intent));
+            return target;
+        });
+        if (!offered.get()) {
+            tickets.invalidate(ticketId);
+            throw new ServiceBusyException("Registration queue is full, please retry", retryAfterSeconds);
+        }
+        ticketByVolunteer.put(key, ticketId);
+        scheduleDrain(eventId, lane);
+        return Optional.of(toDto(ticketId, queued));
+    }
+
+    @Override
+    public RegistrationTicket getTicket(String ticketId, Authentication auth) {
+        Long volunteerId = currentUserId(auth);
+        Ticket t = tickets.get(ticketId);
+        if (t == null) t = fromRegistration(ticketId, volunteerId);
+        // unknown, expired and other volunteers' tickets look the same
+        if (t == null || !t.volunteerId().equals(volunteerId)) {
+            throw new IllegalArgumentException("Ticket not found");
+        }
+        return toDto(ticketId, t);
+    }
+
+    // ticket queued on another node (or expired here): the caller's registration row is the outcome
+    private Ticket fromRegistration(String ticketId, Long volunteerId) {
+        int dot = ticketId.indexOf('.');
+        if (dot <= 0) return null;
+        Long eventId;
+        try {
+            eventId = Long.valueOf(ticketId.substring(0, dot));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        List<Long> ids = jdbc.queryForList("SELECT id FROM registrations WHERE event_id = ? AND volunteer_id = ?",
+                Long.class, eventId, volunteerId);
+        return ids.isEmpty() ? null : new Ticket(eventId, volunteerId, REGISTERED, ids.get(0), null);
+    }
+
+    // at most one drain task per event lane: the single writer for that event on this node
+    private void scheduleDrain(Long eventId, Lane lane) {
+        if (lane.draining.compareAndSet(false, true)) {
+            drainers.execute(() -> drain(eventId, lane));
+        }
+    }
+
+    private void drain(Long eventId, Lane lane) {
+        try {
+            List<Intent> batch = new ArrayList<>(batchSize);
+            while (lane.queue.drainTo(batch, batchSize) > 0) {
+                try {
+                    write(eventId, batch);
+                } catch (Exception ex) {
+                    log.warn("Registration batch for event {} failed: {}", eventId, ex.getMessage());
+                    for (Intent i : batch) complete(i, REJECTED, null, "Registration failed, please retry");
+                }
+                batch.clear();
+            }
+        } finally {
+            lane.draining.set(false);
+            // an intent offered after the last drainTo but before the flag reset would otherwise wait
+            if (!lane.queue.isEmpty()) {
+                scheduleDrain(eventId, lane);
+            } else {
+                // drained: drop the lane; an offer racing with this lands in a fresh one
+                lanes.computeIfPresent(eventId, (id, l) -> l == lane && l.queue.isEmpty() ? null : l);
+            }
+        }
+    }
+
+    private void write(Long eventId, List<Intent> batch) {
+        // same volunteer twice in one batch: the first intent wins
+        Map<Long, Intent> byVolunteer = new HashMap<>();
+        List<Intent> dupes = new ArrayList<>();
+        for (Intent i : batch) {
+            if (byVolunteer.putIfAbsent(i.volunteerId(), i) != null) dupes.add(i);
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("eventId", eventId)
+                .addValue("ids", byVolunteer.keySet());
+        Set<Long> already = new HashSet<>();
+        Map<Long, Long> registrationIds = new HashMap<>();
+        tx.executeWithoutResult(status -> {
+            already.addAll(named.queryForList(
+                    "SELECT volunteer_id FROM registrations WHERE event_id = :eventId AND volunteer_id IN (:ids)",
+                    params, Long.class));
+            List<Object> args = new ArrayList<>();
+            StringBuilder values = new StringBuilder();
+            for (Intent i : byVolunteer.values()) {
+                if (already.contains(i.volunteerId())) continue;
+                if (!values.isEmpty()) values.append(", ");
+                values.append("(?, ?, 'pending', ?, ?)");
+                args.add(eventId);
+                args.add(i.volunteerId());
+                args.add(i.note());
+                args.add(Timestamp.valueOf(i.at()));
+            }
+            // one multi-row statement: its affected-row count is exactly the rows this batch inserted.
+            // IGNORE: another node or the synchronous path may have inserted in between (and counted it)
+            int inserted = values.isEmpty() ? 0 : jdbc.update("INSERT IGNORE INTO registrations " +
+                    "(event_id, volunteer_id, status, note, registered_at) VALUES " + values, args.toArray());
+            named.query("SELECT id, volunteer_id FROM registrations WHERE event_id = :eventId AND volunteer_id IN (:ids)",
+                    params, rs -> {
+                        registrationIds.put(rs.getLong("volunteer_id"), rs.getLong("id"));
+                    });
+            counters.apply(eventId, RegistrationCounters.delta()
+                    .move(null, RegistrationEntity.RegistrationStatus.pending, inserted));
+        });
+        for (Intent i : byVolunteer.values()) {
+            Long id = registrationIds.get(i.volunteerId());
+            if (id == null) {
+                complete(i, REJECTED, null, "Registration failed, please retry");
+            } else if (already.contains(i.volunteerId())) {
+                complete(i, DUPLICATE, id, "Already registered for this event");
+            } else {
+                // also when another path won the race in between: either way the volunteer is registered
+                complete(i, REGISTERED, id, null);
+            }
+        }
+        for (Intent i : dupes) complete(i, DUPLICATE, null, "Already registered for this event");
+    }
+
+    private void complete(Intent i, String status, Long registrationId, String error) {
+        tickets.put(i.ticketId(), new Ticket(i.eventId(), i.volunteerId(), status, registrationId, error));
+    }
+
+    private RegistrationTicket toDto(String ticketId, Ticket t) {
+        return new RegistrationTicket(ticketId, t.eventId(), t.status(), t.registrationId(), t.error());
+    }
+
+    private Long currentUserId(Authentication auth) {
+        if (auth == null || !(auth.getPrincipal() instanceof CustomUserDetails)) {
+            throw new IllegalArgumentException("Authentication required");
+        }
+        return ((CustomUserDetails) auth.getPrincipal()).getUserEntity().getId();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drainers.shutdown();
+    }
+}
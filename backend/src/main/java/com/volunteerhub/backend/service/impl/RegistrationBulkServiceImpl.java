@@ -0,0 +1,285 @@
+package com.volunteerhub.backend.service.impl;
+
+import com.volunteerhub.backend.cache.EventCache;
+import com.volunteerhub.backend.dto.BulkCompletionRequest;
+import com.volunteerhub.backend.dto.BulkRegistrationResponse;
+import com.volunteerhub.backend.dto.BulkRegistrationResponse.Result;
+import com.volunteerhub.backend.entity.RegistrationEntity.RegistrationStatus;
+import com.volunteerhub.backend.exception.NotFoundException;
+import com.volunteerhub.backend.repository.EventRepository;
+import com.volunteerhub.backend.repository.RegistrationRepository;
+import com.volunteerhub.backend.security.CustomUserDetails;
+import com.volunteerhub.backend.service.IRegistrationBulkService;
+import com.volunteerhub.backend.util.CsvReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Organizer decisions for many registrations of one event in one transaction: lock the requested
+// rows once, decide per row in memory, then one statement per outcome (capacity checked once).
+@Service
+public class RegistrationBulkServiceImpl implements IRegistrationBulkService {
+
+    private static final int MAX_ROWS = 1000;
+
+    private final RegistrationRepository regRepo;
+    private final EventRepository eventRepo;
+    private final EventCache eventCache;
+    private final WaitlistPromoter waitlist;
+    private final JdbcTemplate jdbc;
+    private final RegistrationCounters counters;
+
+    public RegistrationBulkServiceImpl(RegistrationRepository regRepo,
+                                       EventRepository eventRepo,
+                                       EventCache eventCache,
+                                       WaitlistPromoter waitlist,
+                                       JdbcTemplate jdbc,
+                                       RegistrationCounters counters) {
+        this.regRepo = regRepo;
+        this.eventRepo = eventRepo;
+        this.eventCache = eventCache;
+        this.waitlist = waitlist;
+        this.jdbc = jdbc;
+        this.counters = counters;
+    }
+
+    @Override
+    @Transactional
+    public BulkRegistrationResponse approve(Long eventId, List<Long> ids, Authentication auth) {
+        checkOrganizer(eventId, auth);
+        Collection<Long> requested = requested(ids);
+        Map<Long, RegistrationRepository.StatusView> rows = lockRows(eventId, requested);
+
+        Map<Long, Result> results = new LinkedHashMap<>();
+        List<Long> candidates = new ArrayList<>();
+        for (Long id : requested) {
+            String s = rows.containsKey(id) ? rows.get(id).getStatus() : null;
+            if (s == null) {
+                results.put(id, new Result(id, "not_found", "Registration not found"));
+            } else if ("approved".equals(s)) {
+                results.put(id, new Result(id, "unchanged", null));
+            } else if ("cancelled".equals(s) || "completed".equals(s)) {
+                results.put(id, new Result(id, "skipped", "Registration cannot be approved"));
+            } else {
+                results.put(id, null);
+                candidates.add(id);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            // locking read of the counters: the free-slot count holds for the whole batch
+            var capacity = eventRepo.lockCapacityById(eventId)
+                    .orElseThrow(() -> new NotFoundException("Event not found"));
+            int current = capacity.getCurrentVolunteers() == null ? 0 : capacity.getCurrentVolunteers();
+            int free = capacity.getMaxVolunteers() == null
+                    ? candidates.size() : Math.max(0, capacity.getMaxVolunteers() - current);
+            List<Long> toApprove = candidates.subList(0, Math.min(free, candidates.size()));
+            List<Long> toWaitlist = candidates.subList(toApprove.size(), candidates.size());
+
+            if (!toApprove.isEmpty()) {
+                // cannot fail while the capacity row is locked; if it does, roll back rather than overbook
+                if (eventRepo.tryReserveSlots(eventId, toApprove.size()) == 0) {
+                    throw new IllegalStateException("Event capacity changed during bulk approval");
+                }
+                regRepo.decideAll(toApprove, RegistrationStatus.approved, LocalDateTime.now());
+                evictEvent(eventId);
+            }
+            if (!toWaitlist.isEmpty()) regRepo.waitlistAll(toWaitlist);
+            RegistrationCounters.Delta delta = RegistrationCounters.delta();
+            toApprove.forEach(id -> delta.move(statusOf(rows, id), RegistrationStatus.approved));
+            toWaitlist.forEach(id -> delta.move(statusOf(rows, id), RegistrationStatus.waitlisted));
+            counters.apply(eventId, delta);
+            toApprove.forEach(id -> results.put(id, new Result(id, "approved", null)));
+            toWaitlist.forEach(id -> results.put(id, new Result(id, "waitlisted", "Event is full")));
+        }
+        return response(results);
+    }
+
+    @Override
+    @Transactional
+    public BulkRegistrationResponse reject(Long eventId, List<Long> ids, Authentication auth) {
+        checkOrganizer(eventId, auth);
+        Collection<Long> requested = requested(ids);
+        Map<Long, RegistrationRepository.StatusView> rows = lockRows(eventId, requested);
+
+        Map<Long, Result> results = new LinkedHashMap<>();
+        List<Long> toReject = new ArrayList<>();
+        int released = 0;
+        for (Long id : requested) {
+            String s = rows.containsKey(id) ? rows.get(id).getStatus() : null;
+            if (s == null) {
+                results.put(id, new Result(id, "not_found", "Registration not found"));
+            } else if ("rejected".equals(s)) {
+                results.put(id, new Result(id, "unchanged", null));
+            } else if ("cancelled".equals(s) || "completed".equals(s)) {
+                results.put(id, new Result(id, "skipped", "Registration cannot be rejected"));
+            } else {
+                if ("approved".equals(s)) released++;
+                toReject.add(id);
+                results.put(id, new Result(id, "rejected", null));
+            }
+        }
+
+        if (!toReject.isEmpty()) regRepo.decideAll(toReject, RegistrationStatus.rejected, LocalDateTime.now());
+        if (released > 0) {
+            // freed slots go to the waitlist head in the same transaction
+            eventRepo.releaseSlots(eventId, released);
+            evictEvent(eventId);
+            waitlist.promote(eventId);
+        }
+        RegistrationCounters.Delta delta = RegistrationCounters.delta();
+        toReject.forEach(id -> delta.move(statusOf(rows, id), RegistrationStatus.rejected));
+        counters.apply(eventId, delta);
+        return response(results);
+    }
+
+    @Override
+    @Transactional
+    public BulkRegistrationResponse complete(Long eventId, List<BulkCompletionRequest.Entry> entries, Authentication auth) {
+        checkOrganizer(eventId, auth);
+        // a registration listed twice: the last line of the sheet wins
+        Map<Long, BulkCompletionRequest.Entry> byId = new LinkedHashMap<>();
+        for (BulkCompletionRequest.Entry e : entries) byId.put(e.getRegistrationId(), e);
+        Map<Long, RegistrationRepository.StatusView> rows = lockRows(eventId, byId.keySet());
+
+        Map<Long, Result> results = new LinkedHashMap<>();
+        RegistrationCounters.Delta delta = RegistrationCounters.delta();
+        List<Object[]> args = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (BulkCompletionRequest.Entry e : byId.values()) {
+            Long id = e.getRegistrationId();
+            String s = rows.containsKey(id) ? rows.get(id).getStatus() : null;
+            if (s == null) {
+                results.put(id, new Result(id, "not_found", "Registration not found"));
+            } else if (!"approved".equals(s) && !"completed".equals(s)) {
+                results.put(id, new Result(id, "skipped", "Registration is not approved"));
+            } else {
+                args.add(new Object[]{now, e.isPresent() ? "present" : "absent", e.getNote(), id});
+                boolean wasPresent = "present".equals(rows.get(id).getAttendanceStatus());
+                delta.move(statusOf(rows, id), RegistrationStatus.completed)
+                        .present((e.isPresent() ? 1 : 0) - (wasPresent ? 1 : 0));
+                results.put(id, new Result(id, "completed", null));
+            }
+        }
+        // per-row attendance and note: one JDBC batch instead of a load + save per registration
+        if (!args.isEmpty()) {
+            jdbc.batchUpdate("UPDATE registrations SET status = 'completed', completed_at = ?, " +
+                    "attendance_status = ?, completion_note = ? WHERE id = ?", args);
+        }
+        counters.apply(eventId, delta);
+        return response(results);
+    }
+
+    // header: registrationId (or registration_id / id), present (true/false, yes/no, 1/0, present/absent), note
+    @Override
+    @Transactional
+    public BulkRegistrationResponse completeFromCsv(Long eventId, InputStream in, Authentication auth) throws IOException {
+        // access first: no parsing work for callers who may not manage this event
+        checkOrganizer(eventId, auth);
+        CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        List<String> header = csv.next();
+        if (header == null) throw new IllegalArgumentException("Empty file");
+        if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) header.set(0, header.get(0).substring(1));
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) columns.put(header.get(i).trim(), i);
+        Integer idCol = columns.getOrDefault("registrationId", columns.getOrDefault("registration_id", columns.get("id")));
+        if (idCol == null) throw new IllegalArgumentException("CSV header must contain registrationId");
+        Integer presentCol = columns.get("present");
+        Integer noteCol = columns.get("note");
+
+        List<BulkCompletionRequest.Entry> entries = new ArrayList<>();
+        int row = 0;
+        List<String> fields;
+        while ((fields = csv.next()) != null) {
+            if (fields.size() == 1 && fields.get(0).isBlank()) continue;
+            row++;
+            if (row > MAX_ROWS) throw new IllegalArgumentException("At most " + MAX_ROWS + " rows per sheet");
+            String id = col(fields, idCol);
+            try {
+                entries.add(new BulkCompletionRequest.Entry(Long.valueOf(id),
+                        toPresent(col(fields, presentCol)), col(fields, noteCol)));
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Row " + row + ": invalid registrationId '" + id + "'");
+            }
+        }
+        if (entries.isEmpty()) throw new IllegalArgumentException("No rows in sheet");
+        return complete(eventId, entries, auth);
+    }
+
+    // null ids dropped, duplicates collapsed, request order kept
+    private static Collection<Long> requested(List<Long> ids) {
+        Collection<Long> requested = ids.stream().filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (requested.isEmpty()) throw new IllegalArgumentException("No registration ids given");
+        return requested;
+    }
+
+    private Map<Long, RegistrationRepository.StatusView> lockRows(Long eventId, Collection<Long> ids) {
+        return regRepo.lockByEventIdAndIdIn(eventId, ids).stream()
+                .collect(Collectors.toMap(RegistrationRepository.StatusView::getId, Function.identity()));
+    }
+
+    private static RegistrationStatus statusOf(Map<Long, RegistrationRepository.StatusView> rows, Long id) {
+        return RegistrationStatus.valueOf(rows.get(id).getStatus());
+    }
+
+    private void checkOrganizer(Long eventId, Authentication auth) {
+        if (auth == null || !(auth.getPrincipal() instanceof CustomUserDetails cud)) {
+            throw new IllegalArgumentException("Authentication required");
+        }
+        var event = eventRepo.findCapacityById(eventId).orElseThrow(() -> new NotFoundException("Event not found"));
+        var user = cud.getUserEntity();
+        boolean isAdmin = user.getRole() != null && "admin".equalsIgnoreCase(user.getRole().name());
+        if (!isAdmin && !user.getId().equals(event.getOrganizerId())) {
+            throw new SecurityException("Not allowed to manage registrations of this event");
+        }
+    }
+
+    // the counter UPDATE holds the event row lock -> this is the version being committed
+    private void evictEvent(Long eventId) {
+        Long version = eventRepo.findVersionsByIdIn(List.of(eventId)).stream()
+                .findFirst().map(EventRepository.VersionView::getVersion).orElse(null);
+        eventCache.evictAfterCommit(eventId, version);
+    }
+
+    private static BulkRegistrationResponse response(Map<Long, Result> results) {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Result r : results.values()) counts.merge(r.getOutcome(), 1, Integer::sum);
+        return new BulkRegistrationResponse(new ArrayList<>(results.values()), counts);
+    }
+
+    private static String col(List<String> f, Integer i) {
+        if (i == null || i >= f.size()) return null;
+        String v = f.get(i).trim();
+        return v.isEmpty() ? null : v;
+    }
+
+    // empty = present (same default as the single complete endpoint)
+    private static boolean toPresent(String v) {
+        if (v == null) return true;
+        return switch (v.toLowerCase()) {
+            case "false", "no", "0", "absent", "n" -> false;
+            default -> true;
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.volunteerhub.backend.service.impl;
+
+import com.volunteerhub.backend.dto.RegistrationCounts;
+import com.volunteerhub.backend.entity.EventRegistrationCountEntity;
+import com.volunteerhub.backend.entity.RegistrationEntity.RegistrationStatus;
+import com.volunteerhub.backend.repository.EventRegistrationCountRepository;
+import com.volunteerhub.backend.repository.RegistrationRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Keeps event_registration_counts in step with registration changes. Callers collect a Delta and apply
+// it once, as the last write of their transaction (the counter row is the hottest lock of the event).
+@Component
+public class RegistrationCounters {
+
+    // statuses in enum order, then present
+    private static final int PRESENT = RegistrationStatus.values().length;
+    private static final int COLUMNS = PRESENT + 1;
+
+    private final EventRegistrationCountRepository repo;
+    private final RegistrationRepository regRepo;
+
+    public RegistrationCounters(EventRegistrationCountRepository repo, RegistrationRepository regRepo) {
+        this.repo = repo;
+        this.regRepo = regRepo;
+    }
+
+    public static final class Delta {
+        private final int[] byStatus = new int[RegistrationStatus.values().length];
+        private int present;
+
+        // from null = new registration
+        public Delta move(RegistrationStatus from, RegistrationStatus to) {
+            return move(from, to, 1);
+        }
+
+        public Delta move(RegistrationStatus from, RegistrationStatus to, int n) {
+            if (from == to || n == 0) return this;
+            if (from != null) byStatus[from.ordinal()] -= n;
+            if (to != null) byStatus[to.ordinal()] += n;
+            return this;
+        }
+
+        public Delta present(int n) {
+            present += n;
+            return this;
+        }
+
+        boolean isEmpty() {
+            if (present != 0) return false;
+            for (int v : byStatus) if (v != 0) return false;
+            return true;
+        }
+
+        int of(RegistrationStatus s) {
+            return byStatus[s.ordinal()];
+        }
+    }
+
+    public static Delta delta() {
+        return new Delta();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Long eventId, Delta d) {
+        if (d.isEmpty()) return;
+        repo.addCounts(eventId,
+                d.of(RegistrationStatus.pending), d.of(RegistrationStatus.approved),
+                d.of(RegistrationStatus.waitlisted), d.of(RegistrationStatus.rejected),
+                d.of(RegistrationStatus.cancelled), d.of(RegistrationStatus.completed),
+                d.present, LocalDateTime.now());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void move(Long eventId, RegistrationStatus from, RegistrationStatus to) {
+        apply(eventId, delta().move(from, to));
+    }
+
+    // Rewrites drifted counter rows of these events from the registration rows. The counter rows are
+    // locked first (writers upsert them last, so in-flight writers either finished before or wait),
+    // and the aggregate below is the transaction's first consistent read, taken after the locks.
+    @Transactional
+    public int reconcile(List<Long> eventIds) {
+        if (eventIds.isEmpty()) return 0;
+        repo.lockByEventIdIn(eventIds);
+        Map<Long, int[]> actual = new HashMap<>();
+        for (RegistrationRepository.StatusCount c : regRepo.countByEventIdIn(eventIds)) {
+            int[] v = actual.computeIfAbsent(c.getEventId(), k -> new int[COLUMNS]);
+            v[c.getStatus().ordinal()] = c.getTotal().intValue();
+            v[PRESENT] += c.getPresent() == null ? 0 : c.getPresent().intValue();
+        }
+        Map<Long, int[]> stored = new HashMap<>();
+        for (EventRegistrationCountEntity c : repo.findByEventIdIn(eventIds)) {
+            stored.put(c.getEventId(), new int[]{c.getPending(), c.getApproved(), c.getWaitlisted(),
+                    c.getRejected(), c.getCancelled(), c.getCompleted(), c.getPresent()});
+        }
+        int repaired = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (Long eventId : eventIds) {
+            int[] a = actual.getOrDefault(eventId, new int[COLUMNS]);
+            int[] s = stored.get(eventId);
+            if (s == null ? isZero(a) : Arrays.equals(a, s)) continue;
+            repo.setCounts(eventId, a[0], a[1], a[2], a[3], a[4], a[5], a[PRESENT], now);
+            repaired++;
+        }
+        return repaired;
+    }
+
+    private static boolean isZero(int[] v) {
+        for (int x : v) if (x != 0) return false;
+        return true;
+    }
+
+    // primary-key read; no row yet = nothing registered
+    public RegistrationCounts get(Long eventId) {
+        return repo.findById(eventId)
+                .map(c -> new RegistrationCounts(eventId, c.getPending(), c.getApproved(), c.getWaitlisted(),
+                        c.getRejected(), c.getCancelled(), c.getCompleted(), c.getPresent()))
+                .orElseGet(() -> new RegistrationCounts(eventId, 0, 0, 0, 0, 0, 0, 0));
+    }
+}
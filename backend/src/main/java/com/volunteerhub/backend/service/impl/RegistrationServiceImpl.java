@@ -1,7 +1,14 @@
 package com.volunteerhub.backend.service.impl;
 
+import com.volunteerhub.backend.cache.EventCache;
+import com.volunteerhub.backend.dto.CursorPage;
+import com.volunteerhub.backend.dto.ParticipationEntry;
+import com.volunteerhub.backend.dto.ParticipationFilter;
+import com.volunteerhub.backend.dto.RegistrationCounts;
 import com.volunteerhub.backend.dto.RegistrationCreateRequest;
 import com.volunteerhub.backend.dto.RegistrationResponse;
+import com.volunteerhub.backend.dto.RosterEntry;
+import com.volunteerhub.backend.dto.RosterPage;
 import com.volunteerhub.backend.entity.EventEntity;
 import com.volunteerhub.backend.entity.RegistrationEntity;
 import com.volunteerhub.backend.repository.RegistrationRepository;
@@ -11,30 +18,47 @@ import com.volunteerhub.backend.service.IRegistrationService;
 import com.volunteerhub.backend.entity.UserEntity;
 import com.volunteerhub.backend.repository.UserRepository;
 import com.volunteerhub.backend.security.CustomUserDetails;
+import com.volunteerhub.backend.util.KeysetCursor;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 public class RegistrationServiceImpl implements IRegistrationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final RegistrationRepository regRepo;
     private final EventRepository eventRepo;
     private final UserRepository userRepo;
     private final RegistrationMapper mapper;
+    private final EventCache eventCache;
+    private final WaitlistPromoter waitlist;
+    private final RegistrationCounters counters;
 
     public RegistrationServiceImpl(RegistrationRepository regRepo,
                                    EventRepository eventRepo,
                                    UserRepository userRepo,
-                                   RegistrationMapper mapper) {
+                                   RegistrationMapper mapper,
+                                   EventCache eventCache,
+                                   WaitlistPromoter waitlist,
+                                   RegistrationCounters counters) {
         this.regRepo = regRepo;
         this.eventRepo = eventRepo;
         this.userRepo = userRepo;
         this.mapper = mapper;
+        this.eventCache = eventCache;
+        this.waitlist = waitlist;
+        this.counters = counters;
     }
 
     private UserEntity currentUser(Authentication auth) {
@@ -45,6 +69,50 @@ public class RegistrationServiceImpl implements IRegistrationService {
         return userRepo.findById(cud.getUserEntity().getId()).orElseThrow(() -> new IllegalArgumentException("User not found"));
     }
 
+    private void checkOrganizer(Long eventId, Authentication auth) {
+        if (auth == null || !(auth.getPrincipal() instanceof CustomUserDetails cud)) {
+            throw new IllegalArgumentException("Authentication required");
+        }
+        var event = eventRepo.findCapacityById(eventId).orElseThrow(() -> new IllegalArgumentException("Event not found"));
+        UserEntity user = cud.getUserEntity();
+        boolean isAdmin = user.getRole() != null && "admin".equalsIgnoreCase(user.getRole().name());
+        if (!isAdmin && !user.getId().equals(event.getOrganizerId())) {
+            throw new SecurityException("Not allowed to view registrations of this event");
+        }
+    }
+
+    private RegistrationEntity.RegistrationStatus parseStatus(String status) {
+        try {
+            return RegistrationEntity.RegistrationStatus.valueOf(status);
+        } catch (Exception ex) {
+            throw new IllegalArgumentException("Invalid status");
+        }
+    }
+
+    // row lock on the registration: concurrent approve/reject/cancel of the same row apply one after another
+    private RegistrationEntity lockRegistration(Long eventId, Long registrationId) {
+        RegistrationEntity reg = regRepo.findByIdForUpdate(registrationId)
+                .orElseThrow(() -> new IllegalArgumentException("Registration not found"));
+        if (!reg.getEvent().getId().equals(eventId)) {
+            throw new IllegalArgumentException("Registration not found");
+        }
+        return reg;
+    }
+
+    // the freed slot goes to the head of the waitlist in the same transaction
+    private void releaseSlot(Long eventId) {
+        eventRepo.releaseSlot(eventId);
+        evictEvent(eventId);
+        waitlist.promote(eventId);
+    }
+
+    // the UPDATE above holds the event row lock until commit, so this reads the version being committed
+    private void evictEvent(Long eventId) {
+        Long version = eventRepo.findVersionsByIdIn(List.of(eventId)).stream()
+                .findFirst().map(EventRepository.VersionView::getVersion).orElse(null);
+        eventCache.evictAfterCommit(eventId, version);
+    }
+
     @Override
     @Transactional
     public RegistrationResponse register(Long eventId, RegistrationCreateRequest req, Authentication auth) {
@@ -60,6 +128,12 @@ public class RegistrationServiceImpl implements IRegistrationService {
             }
         }
 
+        // closed by the lifecycle job at start_date; the time check covers the gap between runs
+        if (Boolean.FALSE.equals(event.getRegistrationOpen())
+                || (event.getStartDate() != null && !LocalDateTime.now().isBefore(event.getStartDate()))) {
+            throw new IllegalArgumentException("Registration is closed for this event");
+        }
+
         // prevent duplicate
         var existing = regRepo.findByEventAndVolunteer(event, volunteer);
         if (existing.isPresent()) {
@@ -73,6 +147,7 @@ public class RegistrationServiceImpl implements IRegistrationService {
         r.setRegisteredAt(LocalDateTime.now());
 
         RegistrationEntity saved = regRepo.save(r);
+        counters.move(eventId, null, RegistrationEntity.RegistrationStatus.pending);
         return mapper.toResponse(saved);
     }
 
@@ -80,7 +155,7 @@ public class RegistrationServiceImpl implements IRegistrationService {
     @Transactional
     public RegistrationResponse cancel(Long eventId, Long registrationId, Authentication auth) {
         UserEntity user = currentUser(auth);
-        RegistrationEntity reg = regRepo.findById(registrationId).orElseThrow(() -> new IllegalArgumentException("Registration not found"));
+        RegistrationEntity reg = lockRegistration(eventId, registrationId);
 
         if (!reg.getVolunteer().getId().equals(user.getId())) {
             throw new SecurityException("Not allowed to cancel this registration");
@@ -91,17 +166,20 @@ public class RegistrationServiceImpl implements IRegistrationService {
         if (event.getStartDate() != null && LocalDateTime.now().isAfter(event.getStartDate())) {
             throw new IllegalArgumentException("Cannot cancel after event start");
         }
+        if (reg.getStatus() == RegistrationEntity.RegistrationStatus.cancelled) {
+            return mapper.toResponse(reg);
+        }
 
-        // if previously approved, decrement currentVolunteers
-        if (reg.getStatus() == RegistrationEntity.RegistrationStatus.approved) {
-            int cur = event.getCurrentVolunteers() != null ? event.getCurrentVolunteers() : 0;
-            event.setCurrentVolunteers(Math.max(0, cur - 1));
-            eventRepo.save(event);
+        // if previously approved, give the slot back
+        var old = reg.getStatus();
+        if (old == RegistrationEntity.RegistrationStatus.approved) {
+            releaseSlot(event.getId());
         }
 
         reg.setStatus(RegistrationEntity.RegistrationStatus.cancelled);
         reg.setCancelledAt(LocalDateTime.now());
         RegistrationEntity saved = regRepo.save(reg);
+        counters.move(event.getId(), old, RegistrationEntity.RegistrationStatus.cancelled);
         return mapper.toResponse(saved);
     }
 
@@ -112,55 +190,129 @@ public class RegistrationServiceImpl implements IRegistrationService {
         return regRepo.findByEvent(event).stream().map(mapper::toResponse).collect(Collectors.toList());
     }
 
+    @Override
+    public RosterPage roster(Long eventId, Optional<String> statusOpt, String cursor, int size, Authentication auth) {
+        checkOrganizer(eventId, auth);
+        Pageable limit = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        KeysetCursor after = StringUtils.hasText(cursor) ? KeysetCursor.decode(cursor) : null;
+        Slice<RosterEntry> slice;
+        if (statusOpt.isPresent()) {
+            RegistrationEntity.RegistrationStatus st = parseStatus(statusOpt.get());
+            slice = after == null
+                    ? regRepo.findFirstRosterPageByStatus(eventId, st, limit)
+                    : regRepo.findRosterPageByStatusAfter(eventId, st, after.getAt(), after.getId(), limit);
+        } else {
+            slice = after == null
+                    ? regRepo.findFirstRosterPage(eventId, limit)
+                    : regRepo.findRosterPageAfter(eventId, after.getAt(), after.getId(), limit);
+        }
+        List<RosterEntry> rows = slice.getContent();
+        String next = null;
+        if (slice.hasNext() && !rows.isEmpty()) {
+            RosterEntry last = rows.get(rows.size() - 1);
+            next = new KeysetCursor(last.getRegisteredAt(), last.getId()).encode();
+        }
+        return new RosterPage(rows, next, slice.hasNext(), counters.get(eventId));
+    }
+
+    @Override
+    public RegistrationCounts counts(Long eventId, Authentication auth) {
+        checkOrganizer(eventId, auth);
+        return counters.get(eventId);
+    }
+
     @Override
     public List<RegistrationResponse> listForVolunteer(Authentication auth) {
         UserEntity user = currentUser(auth);
         return regRepo.findByVolunteer(user).stream().map(mapper::toResponse).collect(Collectors.toList());
     }
 
+    // newest first; principal id straight from the token, one joined select per page
+    @Override
+    public CursorPage<ParticipationEntry> history(ParticipationFilter filter, String cursor, int size, Authentication auth) {
+        if (auth == null || !(auth.getPrincipal() instanceof CustomUserDetails cud)) {
+            throw new IllegalArgumentException("Authentication required");
+        }
+        if (filter.getFrom() != null && filter.getTo() != null && !filter.getFrom().isBefore(filter.getTo())) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        KeysetCursor after = StringUtils.hasText(cursor) ? KeysetCursor.decode(cursor) : null;
+        // one extra row tells whether another page exists
+        List<ParticipationEntry> rows = regRepo.findHistory(cud.getUserEntity().getId(), filter,
+                after == null ? null : after.getAt(), after == null ? null : after.getId(), limit + 1);
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) rows = rows.subList(0, limit);
+        String next = null;
+        if (hasNext) {
+            ParticipationEntry last = rows.get(rows.size() - 1);
+            next = new KeysetCursor(last.getRegisteredAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(rows, next, hasNext);
+    }
+
     @Override
     @Transactional
     public RegistrationResponse approve(Long eventId, Long registrationId, Authentication auth) {
         // only organizer of event or admin allowed (controller enforces)
-        RegistrationEntity reg = regRepo.findById(registrationId).orElseThrow(() -> new IllegalArgumentException("Registration not found"));
-        EventEntity event = reg.getEvent();
-        // Check capacity
-        Integer max = event.getMaxVolunteers();
-        int current = event.getCurrentVolunteers() != null ? event.getCurrentVolunteers() : 0;
-        if (max != null && current >= max) {
-            throw new IllegalArgumentException("Event is full");
+        RegistrationEntity reg = lockRegistration(eventId, registrationId);
+        var status = reg.getStatus();
+        if (status == RegistrationEntity.RegistrationStatus.approved) {
+            return mapper.toResponse(reg);
+        }
+        if (status == RegistrationEntity.RegistrationStatus.cancelled || status == RegistrationEntity.RegistrationStatus.completed) {
+            throw new IllegalArgumentException("Registration cannot be approved");
+        }
+
+        // atomic capacity check + increment on the event row; full -> queued until a slot frees up
+        if (eventRepo.tryReserveSlot(reg.getEvent().getId()) == 0) {
+            if (status != RegistrationEntity.RegistrationStatus.waitlisted) {
+                reg.setStatus(RegistrationEntity.RegistrationStatus.waitlisted);
+                reg = regRepo.save(reg);
+                counters.move(eventId, status, RegistrationEntity.RegistrationStatus.waitlisted);
+            }
+            return mapper.toResponse(reg);
         }
+        evictEvent(reg.getEvent().getId());
 
         reg.setStatus(RegistrationEntity.RegistrationStatus.approved);
         reg.setApprovedAt(LocalDateTime.now());
         RegistrationEntity saved = regRepo.save(reg);
-
-        // update event current volunteers
-        event.setCurrentVolunteers(current + 1);
-        eventRepo.save(event);
-
+        counters.move(eventId, status, RegistrationEntity.RegistrationStatus.approved);
         return mapper.toResponse(saved);
     }
 
     @Override
     @Transactional
     public RegistrationResponse reject(Long eventId, Long registrationId, Authentication auth) {
-        RegistrationEntity reg = regRepo.findById(registrationId).orElseThrow(() -> new IllegalArgumentException("Registration not found"));
+        RegistrationEntity reg = lockRegistration(eventId, registrationId);
+        var old = reg.getStatus();
+        // rejecting an approved registration frees its slot
+        if (old == RegistrationEntity.RegistrationStatus.approved) {
+            releaseSlot(reg.getEvent().getId());
+        }
         reg.setStatus(RegistrationEntity.RegistrationStatus.rejected);
         reg.setApprovedAt(LocalDateTime.now()); // set as processed
         RegistrationEntity saved = regRepo.save(reg);
+        counters.move(eventId, old, RegistrationEntity.RegistrationStatus.rejected);
         return mapper.toResponse(saved);
     }
 
     @Override
     @Transactional
     public RegistrationResponse markCompleted(Long eventId, Long registrationId, boolean present, String completionNote, Authentication auth) {
-        RegistrationEntity reg = regRepo.findById(registrationId).orElseThrow(() -> new IllegalArgumentException("Registration not found"));
+        // locked: the counter delta below is computed from the state this transaction replaces
+        RegistrationEntity reg = lockRegistration(eventId, registrationId);
+        var old = reg.getStatus();
+        boolean wasPresent = reg.getAttendanceStatus() == RegistrationEntity.AttendanceStatus.present;
         reg.setStatus(RegistrationEntity.RegistrationStatus.completed);
         reg.setCompletedAt(LocalDateTime.now());
         reg.setAttendanceStatus(present ? RegistrationEntity.AttendanceStatus.present : RegistrationEntity.AttendanceStatus.absent);
         reg.setCompletionNote(completionNote);
         RegistrationEntity saved = regRepo.save(reg);
+        counters.apply(eventId, RegistrationCounters.delta()
+                .move(old, RegistrationEntity.RegistrationStatus.completed)
+                .present((present ? 1 : 0) - (wasPresent ? 1 : 0)));
         return mapper.toResponse(saved);
     }
 }
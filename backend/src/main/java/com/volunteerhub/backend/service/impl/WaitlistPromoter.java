@@ -0,0 +1,71 @@
+package com.volunteerhub.backend.service.impl;
+
+import com.volunteerhub.backend.cache.EventCache;
+import com.volunteerhub.backend.entity.RegistrationEntity.RegistrationStatus;
+import com.volunteerhub.backend.repository.EventRepository;
+import com.volunteerhub.backend.repository.RegistrationRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Fills free slots from the waitlist, oldest registered_at first, inside the caller's transaction
+// (cancel / reject / capacity increase): reserve the slots, flip the head rows, give back any slot
+// whose row was cancelled in between. Cost follows the number of free slots, not the waitlist length.
+@Component
+public class WaitlistPromoter {
+
+    // upper bound per call; a larger capacity jump is finished by the next trigger
+    private static final int MAX_PROMOTE = 500;
+
+    private final EventRepository eventRepo;
+    private final RegistrationRepository regRepo;
+    private final EventCache eventCache;
+    private final RegistrationCounters counters;
+
+    public WaitlistPromoter(EventRepository eventRepo, RegistrationRepository regRepo, EventCache eventCache,
+                            RegistrationCounters counters) {
+        this.eventRepo = eventRepo;
+        this.regRepo = regRepo;
+        this.eventCache = eventCache;
+        this.counters = counters;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int promote(Long eventId) {
+        var capacity = eventRepo.findCapacityById(eventId).orElse(null);
+        if (capacity == null) return 0;
+        int current = capacity.getCurrentVolunteers() == null ? 0 : capacity.getCurrentVolunteers();
+        // max_volunteers null = unlimited (the limit was removed): the whole waitlist goes through
+        int free = capacity.getMaxVolunteers() == null
+                ? MAX_PROMOTE : Math.min(capacity.getMaxVolunteers() - current, MAX_PROMOTE);
+        if (free <= 0) return 0;
+
+        List<Long> head = regRepo.lockWaitlistHead(eventId, free);
+        if (head.isEmpty()) return 0;
+
+        int reserved = reserve(eventId, head.size());
+        if (reserved == 0) return 0;
+        int promoted = regRepo.promoteWaitlisted(head.subList(0, reserved), LocalDateTime.now());
+        if (promoted < reserved) {
+            eventRepo.releaseSlots(eventId, reserved - promoted);
+        }
+        counters.apply(eventId, RegistrationCounters.delta()
+                .move(RegistrationStatus.waitlisted, RegistrationStatus.approved, promoted));
+        // the UPDATEs above hold the event row lock -> this is the version being committed
+        Long version = eventRepo.findVersionsByIdIn(List.of(eventId)).stream()
+                .findFirst().map(EventRepository.VersionView::getVersion).orElse(null);
+        eventCache.evictAfterCommit(eventId, version);
+        return promoted;
+    }
+
+    // all n in one statement; if a concurrent approve took some, fall back to one slot at a time
+    private int reserve(Long eventId, int n) {
+        if (eventRepo.tryReserveSlots(eventId, n) == 1) return n;
+        int reserved = 0;
+        while (reserved < n && eventRepo.tryReserveSlot(eventId) == 1) reserved++;
+        return reserved;
+    }
+}
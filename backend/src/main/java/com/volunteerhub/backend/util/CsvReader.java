@@ -0,0 +1,67 @@
+package com.volunteerhub.backend.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Streaming RFC 4180 reader: one record per call, quoted fields may contain commas, quotes ("") and newlines.
+public class CsvReader {
+
+    private final Reader in;
+    private int pushedBack = -2;
+
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    // null at end of input; blank lines come back as a single empty field
+    public List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) return null;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) throw new IOException("Unterminated quoted field");
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = n;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') pushedBack = n;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return in.read();
+    }
+}
@@ -0,0 +1,11 @@
+package com.volunteerhub.backend.util;
+
+// Strong ETag values from a fingerprint string (ids, versions, timestamps of the rows in a response).
+public final class ETags {
+
+    private ETags() {}
+
+    public static String strong(String fingerprint) {
+        return "\"" + TokenUtils.sha256Hex(fingerprint).substring(0, 32) + "\"";
+    }
+}
@@ -0,0 +1,36 @@
+package com.volunteerhub.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// Opaque keyset position (timestamp, id), sent to clients as URL-safe base64.
+public final class KeysetCursor {
+
+    private final LocalDateTime at;
+    private final Long id;
+
+    public KeysetCursor(LocalDateTime at, Long id) {
+        this.at = at;
+        this.id = id;
+    }
+
+    public LocalDateTime getAt() { return at; }
+
+    public Long getId() { return id; }
+
+    public String encode() {
+        String raw = at + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.valueOf(raw.substring(sep + 1)));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
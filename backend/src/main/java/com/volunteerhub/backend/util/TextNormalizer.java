@@ -0,0 +1,63 @@
+package com.volunteerhub.backend.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+// Accent-insensitive folding for Vietnamese text: "Tình nguyện Đà Nẵng" -> "tinh nguyen da nang".
+public final class TextNormalizer {
+
+    private TextNormalizer() {}
+
+    // lower-case, NFD with combining marks dropped; đ/Đ has no decomposition so it is mapped by hand
+    public static String fold(String input) {
+        if (input == null || input.isEmpty()) return "";
+        String nfd = Normalizer.normalize(input, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(nfd.length());
+        for (int i = 0; i < nfd.length(); i++) {
+            char c = nfd.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) continue;
+            if (c == 'đ' || c == 'Đ') c = 'd';
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    // URL slug: folded letters/digits, runs of anything else collapse to one '-', capped at maxLength
+    public static String slugify(String input, int maxLength) {
+        String folded = fold(input);
+        StringBuilder sb = new StringBuilder(Math.min(folded.length(), maxLength));
+        boolean dash = false;
+        for (int i = 0; i < folded.length() && sb.length() < maxLength; i++) {
+            char c = folded.charAt(i);
+            if (c < 128 && Character.isLetterOrDigit(c)) {
+                if (dash && sb.length() > 0) sb.append('-');
+                sb.append(c);
+                dash = false;
+            } else {
+                dash = true;
+            }
+        }
+        if (sb.length() > maxLength) sb.setLength(maxLength);
+        int end = sb.length();
+        while (end > 0 && sb.charAt(end - 1) == '-') end--;
+        return sb.substring(0, end);
+    }
+
+    // folded words split on anything that is not a letter or digit; 1-char tokens are dropped
+    public static List<String> tokens(String input) {
+        String folded = fold(input);
+        List<String> out = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean word = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                if (i - start > 1) out.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+        return out;
+    }
+}
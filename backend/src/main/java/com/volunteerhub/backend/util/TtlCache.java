@@ -0,0 +1,101 @@
+package com.volunteerhub.backend.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// Small bounded LRU cache with per-entry expiry. Not a Spring bean: owners pick size/ttl.
+public class TtlCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMs;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    // guarded by this; read through the synchronized getters (metrics)
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public TtlCache(int maxSize, long ttlMs) {
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                boolean evict = size() > TtlCache.this.maxSize;
+                if (evict) evictions++;
+                return evict;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> e = entries.get(key);
+        if (e == null) {
+            misses++;
+            return null;
+        }
+        if (e.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key);
+            evictions++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return e.value();
+    }
+
+    // loader runs outside the lock; a null result is not cached
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) return value;
+        value = loader.apply(key);
+        if (value != null) put(key, value);
+        return value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, System.currentTimeMillis() + ttlMs);
+    }
+
+    // expiry is capped at the cache ttl
+    public synchronized void put(K key, V value, long expiresAtMs) {
+        long expiresAt = Math.min(expiresAtMs, System.currentTimeMillis() + ttlMs);
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = entries.size();
+        entries.values().removeIf(e -> e.expiresAt() <= now);
+        int removed = before - entries.size();
+        evictions += removed;
+        return removed;
+    }
+
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    public synchronized long missCount() {
+        return misses;
+    }
+
+    // size-capped and expired removals (not explicit invalidations)
+    public synchronized long evictionCount() {
+        return evictions;
+    }
+
+    private record Entry<V>(V value, long expiresAt) {}
+}
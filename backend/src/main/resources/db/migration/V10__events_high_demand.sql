@@ -0,0 +1,5 @@
+-- V10__events_high_demand.sql
+-- Opt-in flash-crowd mode: registrations are queued and written in batches by one writer per event.
+
+ALTER TABLE events
+    ADD COLUMN high_demand BOOLEAN NOT NULL DEFAULT FALSE AFTER registration_open;
@@ -0,0 +1,11 @@
+-- V11__registrations_waitlist.sql
+-- 'waitlisted': approved while the event was full; promoted FIFO by registered_at when a slot frees up.
+-- idx_event_status_registered serves the waitlist head (event_id, 'waitlisted' ORDER BY registered_at)
+-- and replaces idx_event_status, its prefix.
+
+ALTER TABLE registrations
+    MODIFY COLUMN status ENUM('pending','approved','waitlisted','rejected','cancelled','completed') NOT NULL DEFAULT 'pending';
+
+CREATE INDEX idx_event_status_registered ON registrations (event_id, status, registered_at);
+
+DROP INDEX idx_event_status ON registrations;
@@ -0,0 +1,5 @@
+-- V12__registrations_event_registered_index.sql
+-- Unfiltered roster pages: keyset over (registered_at, id) within one event without a filesort.
+-- Status-filtered pages use idx_event_status_registered (V11).
+
+CREATE INDEX idx_event_registered ON registrations (event_id, registered_at, id);
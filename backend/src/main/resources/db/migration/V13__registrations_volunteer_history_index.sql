@@ -0,0 +1,7 @@
+-- V13__registrations_volunteer_history_index.sql
+-- Volunteer history: keyset over (registered_at, id) per volunteer, newest first.
+-- Replaces idx_volunteer, its prefix (fk_reg_volunteer is served by the new index).
+
+CREATE INDEX idx_volunteer_registered ON registrations (volunteer_id, registered_at, id);
+
+DROP INDEX idx_volunteer ON registrations;
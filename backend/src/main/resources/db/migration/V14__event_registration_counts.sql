@@ -0,0 +1,24 @@
+-- V14__event_registration_counts.sql
+-- Registrations per status (and checked-in) per event, maintained with upserts in the same transaction
+-- as every registration change; RegistrationCountReconcileJob repairs drift. No row = all zero.
+
+CREATE TABLE IF NOT EXISTS event_registration_counts (
+                                                         event_id BIGINT PRIMARY KEY,
+                                                         pending INT NOT NULL DEFAULT 0,
+                                                         approved INT NOT NULL DEFAULT 0,
+                                                         waitlisted INT NOT NULL DEFAULT 0,
+                                                         rejected INT NOT NULL DEFAULT 0,
+                                                         cancelled INT NOT NULL DEFAULT 0,
+                                                         completed INT NOT NULL DEFAULT 0,
+                                                         present INT NOT NULL DEFAULT 0,
+                                                         updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+                                                         CONSTRAINT fk_reg_counts_event FOREIGN KEY (event_id) REFERENCES events(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- <=>: attendance_status is nullable, and SUM over only NULL comparisons would be NULL (present is NOT NULL)
+INSERT INTO event_registration_counts (event_id, pending, approved, waitlisted, rejected, cancelled, completed, present)
+SELECT event_id,
+       SUM(status = 'pending'), SUM(status = 'approved'), SUM(status = 'waitlisted'), SUM(status = 'rejected'),
+       SUM(status = 'cancelled'), SUM(status = 'completed'), SUM(attendance_status <=> 'present')
+FROM registrations
+GROUP BY event_id;
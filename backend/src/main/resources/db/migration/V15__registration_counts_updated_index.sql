@@ -0,0 +1,5 @@
+-- V15__registration_counts_updated_index.sql
+-- RegistrationCountReconcileJob: counter rows touched since its last run, keyset over (updated_at, event_id),
+-- whatever the event's status (attendance is recorded after events are completed).
+
+CREATE INDEX idx_reg_counts_updated ON event_registration_counts (updated_at, event_id);
@@ -0,0 +1,5 @@
+-- V3__refresh_tokens_expiry_index.sql
+-- Lets the scheduled purge delete expired refresh tokens in LIMIT-ed chunks by index range
+-- instead of scanning the table.
+
+CREATE INDEX idx_refresh_expires ON refresh_tokens (expires_at);
@@ -0,0 +1,11 @@
+-- V4__events_search_indexes.sql
+-- Composite indexes for GET /api/events/search. Equality columns lead, start_date last so the
+-- date window and the (start_date, id) ordering are served from the index.
+-- (category, start_date) supersedes idx_category; (organizer_id, start_date) also backs fk_events_organizer.
+
+CREATE INDEX idx_status_category_start ON events (status, category, start_date);
+CREATE INDEX idx_category_start ON events (category, start_date);
+CREATE INDEX idx_organizer_start ON events (organizer_id, start_date);
+
+DROP INDEX idx_category ON events;
+DROP INDEX idx_organizer ON events;
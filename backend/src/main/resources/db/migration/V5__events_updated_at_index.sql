@@ -0,0 +1,4 @@
+-- V5__events_updated_at_index.sql
+-- The event text index polls for rows changed since its last run (updated_at, id keyset).
+
+CREATE INDEX idx_events_updated_at ON events (updated_at);
@@ -0,0 +1,14 @@
+-- V6__events_slug_unique.sql
+-- Backs GET /api/events/by-slug/{slug}. Existing rows are made unique first:
+-- missing slugs become "event-<id>", later duplicates get "-<id>" appended (oldest row keeps the bare slug).
+
+UPDATE events SET slug = CONCAT('event-', id) WHERE slug IS NULL OR slug = '';
+
+UPDATE events e
+    JOIN (SELECT DISTINCT later.id
+          FROM events later
+                   JOIN events earlier ON earlier.slug = later.slug AND earlier.id < later.id) dup
+    ON dup.id = e.id
+SET e.slug = CONCAT(LEFT(e.slug, 230), '-', e.id);
+
+CREATE UNIQUE INDEX uq_events_slug ON events (slug);
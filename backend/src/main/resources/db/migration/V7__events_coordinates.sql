@@ -0,0 +1,7 @@
+-- V7__events_coordinates.sql
+-- Optional WGS84 coordinates for "events near me". Distance search runs on the in-memory
+-- EventGeoIndex (fed by EventIndexSyncJob), so no spatial index is added here.
+
+ALTER TABLE events
+    ADD COLUMN latitude DOUBLE NULL AFTER address,
+    ADD COLUMN longitude DOUBLE NULL AFTER latitude;
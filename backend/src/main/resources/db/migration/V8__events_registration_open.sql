@@ -0,0 +1,8 @@
+-- V8__events_registration_open.sql
+-- Set to FALSE by the lifecycle job at start_date (and on completion); register() checks it.
+
+ALTER TABLE events
+    ADD COLUMN registration_open BOOLEAN NOT NULL DEFAULT TRUE AFTER status;
+
+UPDATE events SET registration_open = FALSE
+WHERE status IN ('completed', 'cancelled', 'rejected') OR start_date <= NOW();
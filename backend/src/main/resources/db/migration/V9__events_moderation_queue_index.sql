@@ -0,0 +1,4 @@
+-- V9__events_moderation_queue_index.sql
+-- Admin moderation queue: status = 'pending' ORDER BY created_at, id.
+
+CREATE INDEX idx_status_created ON events (status, created_at);
@@ -0,0 +1,99 @@
+package com.volunteerhub.backend.security;
+
+import com.volunteerhub.backend.service.impl.CheckInServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// The QR token is the only check at the door: anything but an intact, unexpired token of this key is refused.
+class CheckInTokenCodecTest {
+
+    private static final long REGISTRATION = 42L;
+    private static final long EVENT = 7L;
+
+    private final CheckInTokenCodec codec = codec("a-test-secret-that-is-at-least-32-bytes-long");
+
+    @Test
+    void issuedTokenVerifies() {
+        long exp = inOneHour();
+        String token = codec.issue(REGISTRATION, EVENT, exp);
+
+        assertThat(token).hasSize(48);
+        assertThat(codec.verify(token)).contains(new CheckInTokenCodec.Claim(REGISTRATION, EVENT, exp));
+    }
+
+    @Test
+    void alteredMacIsRejected() {
+        byte[] raw = decode(codec.issue(REGISTRATION, EVENT, inOneHour()));
+        raw[raw.length - 1] ^= 0x01;
+
+        assertThat(codec.verify(encode(raw))).isEmpty();
+    }
+
+    @Test
+    void alteredPayloadIsRejected() {
+        byte[] raw = decode(codec.issue(REGISTRATION, EVENT, inOneHour()));
+        // last byte of the event id: same MAC, other event
+        raw[15] ^= 0x01;
+
+        assertThat(codec.verify(encode(raw))).isEmpty();
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        String forged = codec("another-secret-that-is-at-least-32-bytes-long").issue(REGISTRATION, EVENT, inOneHour());
+
+        assertThat(codec.verify(forged)).isEmpty();
+    }
+
+    @Test
+    void wrongLengthOrEncodingIsRejected() {
+        String token = codec.issue(REGISTRATION, EVENT, inOneHour());
+
+        assertThat(codec.verify(null)).isEmpty();
+        assertThat(codec.verify("")).isEmpty();
+        assertThat(codec.verify(token.substring(0, token.length() - 4))).isEmpty();
+        assertThat(codec.verify(token + "AAAA")).isEmpty();
+        assertThat(codec.verify(token.substring(0, 47) + "*")).isEmpty();
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        long past = System.currentTimeMillis() / 1000 - 1;
+
+        assertThat(codec.verify(codec.issue(REGISTRATION, EVENT, past))).isEmpty();
+    }
+
+    @Test
+    void tokenForAnotherEventIsRejectedAtCheckIn() {
+        // the event check comes before any collaborator is used
+        CheckInServiceImpl service = new CheckInServiceImpl(null, null, codec, null, null, null,
+                500, 1000, 1000, 60_000, 12, 5, 1000, 30_000);
+        String token = codec.issue(REGISTRATION, EVENT, inOneHour());
+
+        assertThatThrownBy(() -> service.checkIn(EVENT + 1, token, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Token is for another event");
+    }
+
+    private static CheckInTokenCodec codec(String secret) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(secret);
+        return new CheckInTokenCodec(new JwtProvider(properties));
+    }
+
+    private static long inOneHour() {
+        return System.currentTimeMillis() / 1000 + 3600;
+    }
+
+    private static byte[] decode(String token) {
+        return Base64.getUrlDecoder().decode(token);
+    }
+
+    private static String encode(byte[] raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+}
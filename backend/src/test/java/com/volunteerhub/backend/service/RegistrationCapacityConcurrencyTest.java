@@ -0,0 +1,269 @@
+package com.volunteerhub.backend.service;
+
+import com.volunteerhub.backend.cache.EventCache;
+import com.volunteerhub.backend.entity.EventEntity;
+import com.volunteerhub.backend.entity.EventStatus;
+import com.volunteerhub.backend.entity.RegistrationEntity;
+import com.volunteerhub.backend.entity.Role;
+import com.volunteerhub.backend.entity.UserEntity;
+import com.volunteerhub.backend.dto.RegistrationCounts;
+import com.volunteerhub.backend.mapper.RegistrationMapperImpl;
+import com.volunteerhub.backend.repository.EventRegistrationCountRepository;
+import com.volunteerhub.backend.repository.EventRepository;
+import com.volunteerhub.backend.repository.RegistrationRepository;
+import com.volunteerhub.backend.repository.UserRepository;
+import com.volunteerhub.backend.service.impl.RegistrationCounters;
+import com.volunteerhub.backend.service.impl.RegistrationServiceImpl;
+import com.volunteerhub.backend.service.impl.WaitlistPromoter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Hundreds of parallel approvals against one event must never overbook it; overflow is waitlisted.
+// Runs on H2 with the schema generated from the entities (the Flyway scripts are MySQL-only).
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "spring.datasource.url=jdbc:h2:mem:capacity;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.hikari.maximum-pool-size=16"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({RegistrationServiceImpl.class, WaitlistPromoter.class, RegistrationCounters.class,
+        RegistrationMapperImpl.class, EventCache.class,
+        RegistrationCapacityConcurrencyTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RegistrationCapacityConcurrencyTest {
+
+    private static final int CAPACITY = 50;
+    private static final int REGISTRATIONS = 300;
+    private static final int THREADS = 32;
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private IRegistrationService registrationService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private RegistrationRepository registrationRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EventRegistrationCountRepository countRepository;
+    @Autowired
+    private RegistrationCounters counters;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @AfterEach
+    void cleanUp() {
+        countRepository.deleteAll();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void parallelApprovalsNeverExceedCapacity() throws Exception {
+        EventEntity event = newEvent(CAPACITY);
+        List<Long> regIds = pendingRegistrations(event, REGISTRATIONS);
+
+        List<Future<Boolean>> results = runConcurrently(regIds.stream()
+                .<Callable<Boolean>>map(id -> () ->
+                        "approved".equals(registrationService.approve(event.getId(), id, null).getStatus()))
+                .toList());
+
+        long approved = 0;
+        for (Future<Boolean> f : results) if (f.get()) approved++;
+        assertThat(approved).isEqualTo(CAPACITY);
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getCurrentVolunteers()).isEqualTo(CAPACITY);
+        assertThat(registrationRepository.findAll().stream()
+                .filter(r -> r.getStatus() == RegistrationEntity.RegistrationStatus.approved).count())
+                .isEqualTo(CAPACITY);
+        assertThat(registrationRepository.findAll().stream()
+                .filter(r -> r.getStatus() == RegistrationEntity.RegistrationStatus.waitlisted).count())
+                .isEqualTo(REGISTRATIONS - CAPACITY);
+        RegistrationCounts counts = counters.get(event.getId());
+        assertThat(counts.getApproved()).isEqualTo(CAPACITY);
+        assertThat(counts.getWaitlisted()).isEqualTo(REGISTRATIONS - CAPACITY);
+        assertThat(counts.getPending()).isZero();
+    }
+
+    @Test
+    void freedSlotGoesToOldestWaitlistedRegistration() {
+        EventEntity event = newEvent(2);
+        List<Long> regIds = pendingRegistrations(event, 5);
+        // waitlist order differs from id order: #4 registered first, then #2, then #3
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        registeredAt(regIds.get(4), base);
+        registeredAt(regIds.get(2), base.plusMinutes(1));
+        registeredAt(regIds.get(3), base.plusMinutes(2));
+        for (Long id : regIds) registrationService.approve(event.getId(), id, null);
+
+        registrationService.reject(event.getId(), regIds.get(0), null);
+
+        assertThat(statusOf(regIds.get(4))).isEqualTo(RegistrationEntity.RegistrationStatus.approved);
+        assertThat(statusOf(regIds.get(2))).isEqualTo(RegistrationEntity.RegistrationStatus.waitlisted);
+        assertThat(statusOf(regIds.get(3))).isEqualTo(RegistrationEntity.RegistrationStatus.waitlisted);
+
+        registrationService.reject(event.getId(), regIds.get(1), null);
+
+        assertThat(statusOf(regIds.get(2))).isEqualTo(RegistrationEntity.RegistrationStatus.approved);
+        assertThat(statusOf(regIds.get(3))).isEqualTo(RegistrationEntity.RegistrationStatus.waitlisted);
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getCurrentVolunteers()).isEqualTo(2);
+        RegistrationCounts counts = counters.get(event.getId());
+        assertThat(counts.getApproved()).isEqualTo(2);
+        assertThat(counts.getWaitlisted()).isEqualTo(1);
+        assertThat(counts.getRejected()).isEqualTo(2);
+    }
+
+    @Test
+    void repeatedApprovalOfSameRegistrationTakesOneSlot() throws Exception {
+        EventEntity event = newEvent(CAPACITY);
+        Long regId = pendingRegistrations(event, 1).get(0);
+
+        List<Callable<Boolean>> calls = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            calls.add(() -> {
+                registrationService.approve(event.getId(), regId, null);
+                return true;
+            });
+        }
+        for (Future<Boolean> f : runConcurrently(calls)) f.get();
+
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getCurrentVolunteers()).isEqualTo(1);
+    }
+
+    @Test
+    void parallelApproveAndRejectKeepCounterConsistent() throws Exception {
+        EventEntity event = newEvent(CAPACITY);
+        List<Long> regIds = pendingRegistrations(event, 200);
+
+        // approve all, reject every other one concurrently: counter must equal approved rows
+        List<Callable<Boolean>> calls = new ArrayList<>();
+        for (int i = 0; i < regIds.size(); i++) {
+            Long id = regIds.get(i);
+            calls.add(() -> {
+                registrationService.approve(event.getId(), id, null);
+                return true;
+            });
+            if (i % 2 == 0) {
+                calls.add(() -> {
+                    registrationService.reject(event.getId(), id, null);
+                    return true;
+                });
+            }
+        }
+        for (Future<Boolean> f : runConcurrently(calls)) f.get();
+
+        long approvedRows = registrationRepository.findAll().stream()
+                .filter(r -> r.getStatus() == RegistrationEntity.RegistrationStatus.approved).count();
+        int counter = eventRepository.findById(event.getId()).orElseThrow().getCurrentVolunteers();
+        assertThat(counter).isEqualTo((int) approvedRows);
+        assertThat(counter).isLessThanOrEqualTo(CAPACITY);
+        // maintained counters agree with the rows: reconciliation finds nothing to repair
+        assertThat(counters.get(event.getId()).getApproved()).isEqualTo((int) approvedRows);
+        assertThat(counters.reconcile(List.of(event.getId()))).isZero();
+    }
+
+    private <T> List<Future<T>> runConcurrently(List<Callable<T>> calls) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> call : calls) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+            pool.shutdown();
+            assertThat(pool.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+            return futures;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private EventEntity newEvent(int capacity) {
+        UserEntity organizer = newUser("organizer@example.com", Role.organizer);
+        EventEntity e = new EventEntity();
+        e.setOrganizer(organizer);
+        e.setName("Beach clean-up");
+        e.setSlug("beach-clean-up-" + System.nanoTime());
+        e.setDescription("Collect trash");
+        e.setCategory("environment");
+        e.setLocation("Da Nang");
+        e.setStartDate(LocalDateTime.now().plusDays(7));
+        e.setEndDate(LocalDateTime.now().plusDays(7).plusHours(4));
+        e.setMaxVolunteers(capacity);
+        e.setStatus(EventStatus.approved);
+        return eventRepository.save(e);
+    }
+
+    private List<Long> pendingRegistrations(EventEntity event, int count) {
+        List<RegistrationEntity> regs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RegistrationEntity r = new RegistrationEntity();
+            r.setEvent(event);
+            r.setVolunteer(newUser("volunteer" + i + "@example.com", Role.volunteer));
+            r.setStatus(RegistrationEntity.RegistrationStatus.pending);
+            regs.add(r);
+        }
+        List<Long> ids = registrationRepository.saveAll(regs).stream().map(RegistrationEntity::getId).toList();
+        // rows were inserted directly: seed the counters the way the reconciliation job would
+        counters.reconcile(List.of(event.getId()));
+        return ids;
+    }
+
+    // prePersist stamps registered_at with now(), so explicit times are written after the insert
+    private void registeredAt(Long registrationId, LocalDateTime at) {
+        jdbc.update("UPDATE registrations SET registered_at = ? WHERE id = ?", Timestamp.valueOf(at), registrationId);
+    }
+
+    private RegistrationEntity.RegistrationStatus statusOf(Long registrationId) {
+        return registrationRepository.findById(registrationId).orElseThrow().getStatus();
+    }
+
+    private UserEntity newUser(String email, Role role) {
+        UserEntity u = new UserEntity();
+        u.setEmail(email);
+        u.setPasswordHash("x");
+        u.setFullName(email);
+        u.setRole(role);
+        return userRepository.save(u);
+    }
+}
@@ -0,0 +1,62 @@
+package com.volunteerhub.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void readsPlainRecords() throws IOException {
+        assertThat(readAll("name,location\nBeach,Da Nang\n"))
+                .containsExactly(List.of("name", "location"), List.of("Beach", "Da Nang"));
+    }
+
+    @Test
+    void quotedFieldKeepsCommasAndNewlines() throws IOException {
+        assertThat(readAll("a,\"one, two\nthree\",b\n"))
+                .containsExactly(List.of("a", "one, two\nthree", "b"));
+    }
+
+    @Test
+    void doubledQuoteIsAnEscapedQuote() throws IOException {
+        assertThat(readAll("\"say \"\"hi\"\"\",\"\"\"\"\n"))
+                .containsExactly(List.of("say \"hi\"", "\""));
+    }
+
+    @Test
+    void crlfAndLoneCrEndRecords() throws IOException {
+        assertThat(readAll("a,b\r\nc,d\re,f"))
+                .containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e", "f"));
+    }
+
+    @Test
+    void emptyFieldsAndBlankLinesAreKept() throws IOException {
+        assertThat(readAll(",x,\n\ny\n"))
+                .containsExactly(List.of("", "x", ""), List.of(""), List.of("y"));
+    }
+
+    @Test
+    void unterminatedQuoteFails() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("a,b\n\"open,c\nd\n"));
+        assertThat(csv.next()).containsExactly("a", "b");
+
+        assertThatThrownBy(csv::next)
+                .isInstanceOf(IOException.class)
+                .hasMessage("Unterminated quoted field");
+    }
+
+    private static List<List<String>> readAll(String text) throws IOException {
+        CsvReader csv = new CsvReader(new StringReader(text));
+        List<List<String>> records = new ArrayList<>();
+        List<String> r;
+        while ((r = csv.next()) != null) records.add(r);
+        return records;
+    }
+}